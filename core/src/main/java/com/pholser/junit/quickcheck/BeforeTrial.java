@@ -0,0 +1,54 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Mark a method on a class that is {@linkplain org.junit.runner.RunWith
+ * run with} the {@link com.pholser.junit.quickcheck.runner.JUnitQuickcheck}
+ * runner with this annotation to have it run before every trial of every
+ * property in the class, including attempts to
+ * {@linkplain com.pholser.junit.quickcheck.generator.Shrink shrink} a
+ * failing set of parameters.</p>
+ *
+ * <p>A method marked with this annotation should be an instance method
+ * declared as {@code public} with a return type of {@code void} and no
+ * parameters. It runs against the same test class instance as the trial,
+ * inside any {@link org.junit.Before @Before} methods; with
+ * {@link Lifecycle#PER_PROPERTY} it is the cheap way to reset state
+ * that is set up once for all trials.</p>
+ *
+ * @see AfterTrial
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface BeforeTrial {
+}
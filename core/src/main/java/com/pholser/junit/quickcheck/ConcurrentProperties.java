@@ -0,0 +1,57 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Mark a class that is {@linkplain org.junit.runner.RunWith run with}
+ * the {@link com.pholser.junit.quickcheck.runner.JUnitQuickcheck} runner
+ * with this annotation to have it run the class's properties and tests
+ * concurrently, rather than one after another.</p>
+ *
+ * <p>Results are still reported in the order the runner would have run the
+ * methods in one at a time, once all of them have finished. Each method
+ * still gets its own instance of the class, but
+ * {@link org.junit.BeforeClass @BeforeClass} state, static state, and
+ * class rules are shared by methods running at once. Mark methods that
+ * must not run alongside any other with {@link Isolated}.</p>
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Inherited
+public @interface ConcurrentProperties {
+    /**
+     * @return how many methods of the class to run at once; a non-positive
+     * value, the default, means as many as there are available processors
+     */
+    int threads() default 0;
+}
@@ -0,0 +1,53 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.BitSet;
+
+/**
+ * <p>Reports which locations in the code under test a property's
+ * verification reached, so that properties verified in {@link Mode#GUIDED}
+ * mode can favor arguments that reach new locations.</p>
+ *
+ * <p>An implementation is found via {@link java.util.ServiceLoader}; the
+ * {@code junit-quickcheck-guided} module supplies one that is fed by a Java
+ * agent instrumenting the code under test. Implementations must have a
+ * public zero-arg constructor.</p>
+ *
+ * @see Mode#GUIDED
+ */
+public interface Coverage {
+    /**
+     * Forgets the locations reached so far.
+     */
+    void reset();
+
+    /**
+     * @return identifiers of the locations reached since the last
+     * {@linkplain #reset() reset}
+     */
+    BitSet covered();
+}
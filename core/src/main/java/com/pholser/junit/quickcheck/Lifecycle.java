@@ -0,0 +1,53 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+/**
+ * Represents different lifecycles of the test class instance against which
+ * a property is verified.
+ *
+ * @see Property#lifecycle()
+ * @see BeforeTrial
+ * @see AfterTrial
+ */
+public enum Lifecycle {
+    /**
+     * Create a new instance of the test class for every trial of a property,
+     * running {@link org.junit.Rule rules}, {@link org.junit.Before @Before}
+     * methods, and {@link org.junit.After @After} methods around each trial.
+     * This mirrors how JUnit runs a {@link org.junit.Test @Test} method.
+     */
+    PER_TRIAL,
+
+    /**
+     * Create one instance of the test class for a property, running
+     * {@link org.junit.Rule rules}, {@link org.junit.Before @Before} methods,
+     * and {@link org.junit.After @After} methods once around all the trials
+     * of the property, including any shrinking. Use {@link BeforeTrial} and
+     * {@link AfterTrial} methods to reset state between trials.
+     */
+    PER_PROPERTY
+}
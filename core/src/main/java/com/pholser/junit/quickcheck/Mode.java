@@ -25,10 +25,6 @@
 
 package com.pholser.junit.quickcheck;
 
-import com.pholser.junit.quickcheck.internal.ParameterSampler;
-import com.pholser.junit.quickcheck.internal.sampling.ExhaustiveParameterSampler;
-import com.pholser.junit.quickcheck.internal.sampling.TupleParameterSampler;
-
 /**
  * Represents different modes of execution of property-based tests.
  *
@@ -40,11 +36,7 @@ public enum Mode {
      * Verify {@link Property#trials()} tuples of arguments for a property's
      * parameters.
      */
-    SAMPLING {
-        @Override ParameterSampler sampler(int defaultSampleSize) {
-            return new TupleParameterSampler(defaultSampleSize);
-        }
-    },
+    SAMPLING,
 
     /**
      * Generate {@link Property#trials()} arguments for each parameter
@@ -52,11 +44,60 @@ public enum Mode {
      * This behavior mirrors that of the JUnit
      * {@link org.junit.experimental.theories.Theories} runner.
      */
-    EXHAUSTIVE {
-        @Override ParameterSampler sampler(int defaultSampleSize) {
-            return new ExhaustiveParameterSampler(defaultSampleSize);
-        }
-    };
+    EXHAUSTIVE,
+
+    /**
+     * Verify tuples of all the arguments that the parameters' generators
+     * {@linkplain com.pholser.junit.quickcheck.generator.Generator#enumerate(int)
+     * enumerate}, smallest first, until {@link Property#trials()} tuples
+     * have been verified or the arguments' sizes exceed
+     * {@link Property#trials()}. A parameter whose generator cannot
+     * enumerate its values gets a new random argument for each size.
+     */
+    ENUMERATIVE,
+
+    /**
+     * Verify tuples of arguments forming a covering array over the
+     * parameters with finite domains, such as booleans, enums, and
+     * parameters marked with {@link com.pholser.junit.quickcheck.generator.Only}:
+     * for any {@link Property#strength()} of those parameters, every
+     * combination of their values appears in some tuple. Other parameters
+     * get random arguments. With no parameters with finite domains, verify
+     * {@link Property#trials()} tuples of random arguments.
+     */
+    COVERING,
+
+    /**
+     * Verify {@link Property#trials()} tuples of arguments for a property's
+     * parameters, as in {@link #SAMPLING} mode, but first verify tuples of
+     * the parameters' {@linkplain
+     * com.pholser.junit.quickcheck.generator.Generator#edgeCases edge
+     * values}, such as the least and greatest numbers in range, zero, and
+     * the shortest collections: every combination of them, if they fit
+     * within {@link Property#trials()}, or else a covering array of them of
+     * {@link Property#strength()}.
+     */
+    BOUNDARY,
 
-    abstract ParameterSampler sampler(int defaultSampleSize);
+    /**
+     * Verify {@link Property#trials()} tuples of arguments for a property's
+     * parameters, as in {@link #SAMPLING} mode, but keep the tuples whose
+     * verification reaches code that no earlier tuple reached, and generate
+     * most later tuples by mutating the random choices from which a kept
+     * tuple was generated. Requires a {@link Coverage} to report what code
+     * a verification reaches.
+     */
+    GUIDED,
+
+    /**
+     * Verify {@link Property#trials()} tuples of arguments for a property's
+     * parameters, generating the first tenth of them at random, as in
+     * {@link #SAMPLING} mode, and the rest by mutating the random choices
+     * from which a promising earlier tuple was generated. A tuple is as
+     * promising as the value its verification reports to the property's
+     * {@link com.pholser.junit.quickcheck.Target} parameter; the search
+     * climbs toward greater values, sometimes accepting a lesser one early
+     * on so as not to get stuck.
+     */
+    TARGETED
 }
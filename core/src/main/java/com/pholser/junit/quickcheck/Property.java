@@ -25,10 +25,13 @@
 
 package com.pholser.junit.quickcheck;
 
+import static com.pholser.junit.quickcheck.Lifecycle.PER_TRIAL;
 import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static com.pholser.junit.quickcheck.ShrinkStrategy.GREEDY;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
+import com.pholser.junit.quickcheck.hook.ForkJoinTrialExecutor;
 import com.pholser.junit.quickcheck.hook.NilMinimalCounterexampleHook;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -51,11 +54,93 @@ public @interface Property {
 
     /**
      * @return how many sets of parameters to verify the property with, in
-     * {@link Mode#SAMPLING} mode; in {@link Mode#EXHAUSTIVE} mode, how many
-     * values to generate for each property parameter
+     * {@link Mode#SAMPLING}, {@link Mode#BOUNDARY}, {@link Mode#GUIDED}, or
+     * {@link Mode#TARGETED} mode; in
+     * {@link Mode#EXHAUSTIVE} mode, how many values to generate for each
+     * property parameter; in {@link Mode#ENUMERATIVE} mode, the most sets
+     * of parameters to verify and the greatest size of value to
+     * enumerate; in {@link Mode#COVERING} mode, how many sets of
+     * parameters to verify if no parameter has a finite domain
      */
     int trials() default 100;
 
+    /**
+     * @return for how many parameters with finite domains every combination
+     * of values is verified, in {@link Mode#COVERING} mode: 2 for pairwise
+     * coverage, 3 for triples, and so on; likewise for how many parameters
+     * every combination of edge values is verified, in
+     * {@link Mode#BOUNDARY} mode, when not every combination of them fits
+     * within {@link #trials()}
+     */
+    int strength() default 2;
+
+    /**
+     * @return how long to keep verifying the property with new sets of
+     * parameters, in {@link Mode#SAMPLING} mode, e.g. {@code "30s"},
+     * {@code "5m"}, or {@code "PT1H"}. When given, trials continue until
+     * the duration is spent rather than stopping after {@link #trials()};
+     * at least one trial is always verified. {@link #maxShrinkTime()} still
+     * bounds shrinking separately. The system property
+     * {@code junit-quickcheck.duration}, if set, overrides this value for
+     * every property
+     */
+    String duration() default "";
+
+    /**
+     * @return index of the single trial to verify, in {@link Mode#SAMPLING}
+     * mode, rather than verifying {@link #trials()} of them. Each trial's
+     * values are generated from a seed derived from the parameter's
+     * {@linkplain When#seed() seed} and the trial's index alone, so a
+     * failing trial reported as "trial 7342" can be regenerated directly,
+     * without generating the trials before it. A negative value, the
+     * default, verifies trials as usual. The system property
+     * {@code junit-quickcheck.replay}, if it holds an entry
+     * {@code Class#method=trial} or {@code Class#method=trial:seed,...,seed}
+     * naming this property, overrides this value and, if seeds are given,
+     * the parameters' seeds. Entries are separated by semicolons; properties
+     * without an entry are verified as usual
+     */
+    long replayTrial() default -1;
+
+    /**
+     * @return how many worker threads to spread the generation and
+     * verification of trials across, in {@link Mode#SAMPLING} or
+     * {@link Mode#EXHAUSTIVE} mode. In {@link Mode#SAMPLING} mode, each
+     * worker verifies its share of {@link #trials()} using its own source
+     * of randomness; in {@link Mode#EXHAUSTIVE} mode, each worker verifies
+     * a contiguous range of the combinations of parameter values. All
+     * workers stop on the first failing set of parameters, which is then
+     * {@linkplain #shrink() shrunk} as usual. A property verified by more
+     * than one worker must be safe to verify concurrently.
+     */
+    int parallelism() default 1;
+
+    /**
+     * @return supplier of the executor on which workers run when
+     * {@link #parallelism()} is greater than one; in effect only in
+     * {@link Mode#SAMPLING} or {@link Mode#EXHAUSTIVE} mode
+     */
+    Class<? extends TrialExecutor> executor()
+        default ForkJoinTrialExecutor.class;
+
+    /**
+     * @return how many sets of parameters to generate ahead of verification,
+     * on a separate producer thread, so that generating values overlaps with
+     * verifying the property. Sets of parameters are still verified in the
+     * order they are generated, so seeds reproduce the same values. Zero,
+     * the default, generates each set of parameters just before verifying
+     * it. Ignored in {@link Mode#GUIDED} and {@link Mode#TARGETED} modes,
+     * which generate each set of parameters from what verifying the earlier
+     * ones reported.
+     */
+    int lookahead() default 0;
+
+    /**
+     * @return the lifecycle of the test class instance against which the
+     * property is verified
+     */
+    Lifecycle lifecycle() default PER_TRIAL;
+
     /**
      * @return whether or not to attempt to {@linkplain
      * com.pholser.junit.quickcheck.generator.Shrink shrink} a failing set
@@ -85,6 +170,37 @@ public @interface Property {
      */
     int maxShrinkTime() default 60_000;
 
+    /**
+     * @return how many shrink candidates of a failing set of parameters to
+     * verify concurrently, on workers supplied by {@link #executor()}.
+     * Candidates are still considered in the same order as when verifying
+     * them one at a time, so the same minimal counterexample results; some
+     * candidates beyond the first that fails may be verified needlessly.
+     * In effect only when {@link #shrink()} is {@code true}
+     */
+    int shrinkParallelism() default 1;
+
+    /**
+     * @return how to search the shrinks of a failing set of parameters for a
+     * minimal counterexample. {@link ShrinkStrategy#BEST_FIRST} keeps at most
+     * {@link #maxShrinks()} untried shrinks at a time. In effect only when
+     * {@link #shrink()} is {@code true}
+     */
+    ShrinkStrategy shrinkStrategy() default GREEDY;
+
+    /**
+     * @return whether to record the random choices each generator draws in
+     * generating a property parameter's value, and to shrink a failing value
+     * by simplifying those choices and generating a value from them with the
+     * same generator, rather than by the generator's own {@linkplain
+     * com.pholser.junit.quickcheck.generator.Generator#doShrink
+     * shrinks}. Values shrunk this way are always values the generator could
+     * have produced, so they respect the generator's configuration, and any
+     * generator can be shrunk this way. In effect only when {@link
+     * #shrink()} is {@code true}
+     */
+    boolean integratedShrinking() default false;
+
     /**
      * @return callback that it is executed if a minimal counterexample
      * is found (after shrinking)
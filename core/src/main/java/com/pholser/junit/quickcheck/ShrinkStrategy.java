@@ -0,0 +1,52 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+/**
+ * Represents different ways of searching the shrinks of a failing set of
+ * property arguments for a minimal counterexample.
+ *
+ * @see Property#shrinkStrategy()
+ */
+public enum ShrinkStrategy {
+    /**
+     * Try the shrinks of the smallest failing set of arguments found so far
+     * in the order their generators offer them, moving on to the shrinks of
+     * the first one that also fails the property.
+     */
+    GREEDY,
+
+    /**
+     * Keep a bounded frontier of untried shrinks of every failing set of
+     * arguments found so far, and try next the most promising one: deepest
+     * in the tree of shrinks, then least in {@linkplain
+     * com.pholser.junit.quickcheck.generator.Generator#magnitude(Object)
+     * magnitude}, parameter by parameter. Report the failing set of
+     * arguments found that is smallest in magnitude, parameter by
+     * parameter.
+     */
+    BEST_FIRST
+}
@@ -0,0 +1,64 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+/**
+ * <p>Declare a property parameter of this type to report how close a trial
+ * came to what a property verified in {@link Mode#TARGETED} mode looks for,
+ * such as a long queue, a slow response, or many allocations. The parameter
+ * receives a new target for every trial; the property {@linkplain
+ * #observe(double) observes} a value on it, and later trials steer toward
+ * arguments that make the observed value greater.</p>
+ *
+ * <p>To look for arguments that make a measure smaller, observe its
+ * negation.</p>
+ */
+public final class Target {
+    private double observed = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Reports a value for the current trial. If several values are reported
+     * in a trial, the greatest counts.
+     *
+     * @param value the value to maximize
+     */
+    public void observe(double value) {
+        if (value > observed)
+            observed = value;
+    }
+
+    /**
+     * @return the greatest value {@linkplain #observe(double) observed} in
+     * the current trial, or {@link Double#NEGATIVE_INFINITY} if none was
+     */
+    public double observed() {
+        return observed;
+    }
+
+    @Override public String toString() {
+        return "Target[" + observed + ']';
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * <p>Supplies the executor on which the workers of a property {@linkplain
+ * Property#parallelism() verified in parallel} run.</p>
+ *
+ * <p>Implementations must have a public zero-arg constructor. A new
+ * executor is requested for every property verification, and is shut
+ * down once all of its workers have finished.</p>
+ *
+ * @see Property#executor()
+ */
+public interface TrialExecutor {
+    /**
+     * @param parallelism how many workers will be submitted to the
+     * executor, each verifying its share of the property's trials
+     * @return an executor on which to run the workers
+     */
+    ExecutorService start(int parallelism);
+}
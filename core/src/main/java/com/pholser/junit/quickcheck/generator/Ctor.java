@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import static com.pholser.junit.quickcheck.internal.Enumerations.tuples;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.internal.Reflection.singleAccessibleConstructor;
 
@@ -36,6 +37,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 /**
  * <p>Produces instances of a class by generating values for the parameters of
@@ -105,6 +108,25 @@ public class Ctor<T> extends Generator<T> {
         }
     }
 
+    @Override public boolean canEnumerate() {
+        return parameterGenerators.stream().allMatch(Generator::canEnumerate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An instance's size is the sum of the sizes of the arguments given
+     * to the constructor.</p>
+     */
+    @Override public Stream<T> enumerate(int size) {
+        List<IntFunction<Stream<?>>> arguments = new ArrayList<>();
+        for (Generator<?> each : parameterGenerators)
+            arguments.add(each::enumerate);
+
+        return tuples(size, arguments)
+            .map(args -> instantiate(ctor, args.toArray()));
+    }
+
     @Override public Ctor<T> copy() {
         return new Ctor<>(ctor);
     }
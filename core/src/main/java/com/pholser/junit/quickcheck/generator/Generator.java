@@ -48,6 +48,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 import org.javaruntype.type.Types;
 import org.javaruntype.type.WildcardTypeParameter;
@@ -107,15 +108,31 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
      *
      * <p>Generators first ensure that they {@linkplain #canShrink(Object) can
      * participate} in shrinking the given value, and if so, they
-     * {@linkplain #doShrink(SourceOfRandomness, Object) produce shrinks}.</p>
+     * {@linkplain #doShrinkLazily(SourceOfRandomness, Object) produce
+     * shrinks}.</p>
      */
     @Override public final List<T> shrink(SourceOfRandomness random, Object larger) {
+        return shrinkLazily(random, larger).collect(toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Generators first ensure that they {@linkplain #canShrink(Object) can
+     * participate} in shrinking the given value, and if so, they
+     * {@linkplain #doShrinkLazily(SourceOfRandomness, Object) produce
+     * shrinks}.</p>
+     */
+    @Override public final Stream<T> shrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
         if (!canShrink(larger)) {
             throw new IllegalStateException(
                 getClass() + " not capable of shrinking " + larger);
         }
 
-        return doShrink(random, narrow(larger));
+        return doShrinkLazily(random, narrow(larger));
     }
 
     /**
@@ -149,6 +166,25 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return emptyList();
     }
 
+    /**
+     * <p>Gives some objects that are "smaller" than a given "larger"
+     * object, producing each one only when the shrinking process asks for
+     * it.</p>
+     *
+     * <p>Unless overridden, streams the objects given by
+     * {@link #doShrink(SourceOfRandomness, Object)}. Generators that can
+     * produce many shrinks, or costly ones, should override this method
+     * instead.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object, smaller
+     * objects first
+     */
+    public Stream<T> doShrinkLazily(SourceOfRandomness random, T larger) {
+        return doShrink(random, larger).stream();
+    }
+
     /**
      * <p>Gives a hint to the shrinking process as to the magnitude of the given
      * value. The shrinking process will prefer trying values of greater
@@ -167,6 +203,62 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return ONE;
     }
 
+    /**
+     * <p>Tells whether this generator can {@linkplain #enumerate(int)
+     * enumerate} the values it produces.</p>
+     *
+     * <p>Unless overridden, a generator cannot enumerate its values.</p>
+     *
+     * @return whether this generator can enumerate its values
+     */
+    public boolean canEnumerate() {
+        return false;
+    }
+
+    /**
+     * <p>Gives every distinct value of a given size that this generator
+     * could produce, respecting its configuration. What a value's size is
+     * is up to the generator, with the provisos that simpler values have
+     * lesser sizes, and that only finitely many values have any one size.
+     * Enumerating the values of sizes 0, 1, 2, and so on in turn gives
+     * every value this generator could produce up to a size bound, in
+     * increasing order of size and without duplicates.</p>
+     *
+     * <p>Unless overridden, gives no values. Generators that override this
+     * method should also override {@link #canEnumerate()}.</p>
+     *
+     * @param size size of the values to give
+     * @return the values of the given size, produced only as they are
+     * asked for
+     */
+    public Stream<T> enumerate(int size) {
+        return Stream.empty();
+    }
+
+    /**
+     * <p>Gives values at the edges of what this generator could produce,
+     * respecting its configuration, such as the least and greatest numbers
+     * in its range, zero, and the shortest collections. Random generation
+     * seldom hits such values early on, yet they are where faults such as
+     * overflows tend to lurk.</p>
+     *
+     * <p>Unless overridden, gives no values.</p>
+     *
+     * @param random source of randomness to use in making any parts of
+     * edge values that are not themselves edges, such as the elements of a
+     * collection of the least size
+     * @param status an object that can be used to influence the edge
+     * values. For example, a generator for lists can use the {@link
+     * GenerationStatus#size()} method to size any list it gives
+     * @return this generator's edge values, most telling first
+     */
+    public List<T> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return emptyList();
+    }
+
     /**
      * <p>Attempts to "narrow" the given object to the type this generator
      * produces.</p>
@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Represents a strategy for producing objects "smaller than" a given object.
@@ -43,4 +44,22 @@ public interface Shrink<T> {
      * @return objects that are "smaller" than the larger object
      */
     List<T> shrink(SourceOfRandomness random, Object larger);
+
+    /**
+     * <p>Gives some objects that are "smaller" than a given object, producing
+     * each one only when it is asked for. The shrinking process typically
+     * accepts one of the first few such objects, so producing them on demand
+     * avoids building objects that are never tried.</p>
+     *
+     * <p>Unless overridden, streams the objects given by
+     * {@link #shrink(SourceOfRandomness, Object)}.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object, in the same
+     * order as {@link #shrink(SourceOfRandomness, Object)} would give them
+     */
+    default Stream<T> shrinkLazily(SourceOfRandomness random, Object larger) {
+        return shrink(random, larger).stream();
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates the cross-product of some lists of values, as a mixed-radix
+ * counter whose digits index into the lists, the first list's digit
+ * varying fastest. Any tuple of the product can be had directly by its
+ * index, and the product can be traversed from any index by a spliterator
+ * that splits the range of indices it covers, so that parts of a large
+ * product can be traversed in parallel.
+ *
+ * <p>The product of no lists, or of any empty list, has no tuples. At most
+ * {@link Long#MAX_VALUE} tuples of a larger product are enumerated.</p>
+ *
+ * @param <T> type of values in the tuples
+ */
+public final class CartesianEnumerator<T> {
+    private final List<List<T>> domains;
+    private final int[] radices;
+    private final long size;
+
+    public CartesianEnumerator(List<? extends List<? extends T>> domains) {
+        this.domains = new ArrayList<>();
+        this.radices = new int[domains.size()];
+
+        long product = domains.isEmpty() ? 0 : 1;
+        for (int i = 0; i < domains.size(); ++i) {
+            this.domains.add(unmodifiableList(new ArrayList<>(domains.get(i))));
+            radices[i] = domains.get(i).size();
+            product = saturatedProduct(product, radices[i]);
+        }
+        this.size = product;
+    }
+
+    /**
+     * @return how many tuples the product has
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param index index of a tuple, at least zero and less than
+     * {@link #size()}
+     * @return the tuple at that index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public List<T> get(long index) {
+        return tupleAt(digitsOf(index));
+    }
+
+    /**
+     * @return a spliterator over all the tuples of the product
+     */
+    public Spliterator<List<T>> spliterator() {
+        return spliterator(0);
+    }
+
+    /**
+     * @param from index of the first tuple to traverse
+     * @return a spliterator over the tuples of the product from the given
+     * index on
+     * @throws IndexOutOfBoundsException if the index is negative or greater
+     * than {@link #size()}
+     */
+    public Spliterator<List<T>> spliterator(long from) {
+        if (from < 0 || from > size) {
+            throw new IndexOutOfBoundsException(
+                "Index " + from + " out of range [0, " + size + ']');
+        }
+
+        return new Tuples(from, size);
+    }
+
+    private int[] digitsOf(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index " + index + " out of range [0, " + size + ')');
+        }
+
+        int[] digits = new int[radices.length];
+        long rest = index;
+        for (int i = 0; i < radices.length && rest > 0; ++i) {
+            digits[i] = (int) (rest % radices[i]);
+            rest /= radices[i];
+        }
+        return digits;
+    }
+
+    private List<T> tupleAt(int[] digits) {
+        List<T> tuple = new ArrayList<>(digits.length);
+        for (int i = 0; i < digits.length; ++i)
+            tuple.add(domains.get(i).get(digits[i]));
+        return tuple;
+    }
+
+    private static long saturatedProduct(long a, int b) {
+        return b != 0 && a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+
+    private final class Tuples implements Spliterator<List<T>> {
+        private long next;
+        private final long end;
+        private int[] digits;
+
+        Tuples(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override public boolean tryAdvance(Consumer<? super List<T>> action) {
+            if (next >= end)
+                return false;
+
+            if (digits == null)
+                digits = digitsOf(next);
+            action.accept(tupleAt(digits));
+            advance();
+            return true;
+        }
+
+        @Override public Spliterator<List<T>> trySplit() {
+            long middle = next + (end - next) / 2;
+            if (middle <= next)
+                return null;
+
+            Spliterator<List<T>> prefix = new Tuples(next, middle);
+            next = middle;
+            digits = null;
+            return prefix;
+        }
+
+        @Override public long estimateSize() {
+            return end - next;
+        }
+
+        @Override public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        private void advance() {
+            if (++next >= end)
+                return;
+
+            for (int i = 0; i < digits.length; ++i) {
+                if (++digits[i] < radices[i])
+                    return;
+                digits[i] = 0;
+            }
+        }
+    }
+}
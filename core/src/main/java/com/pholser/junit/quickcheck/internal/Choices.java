@@ -0,0 +1,251 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A source of randomness that records the choices a generator draws from
+ * it, or that replays a given sequence of choices in place of drawing
+ * random ones.
+ *
+ * <p>Every random value a {@link SourceOfRandomness} gives derives from
+ * successive draws of a few random bits from its JDK delegate. Recording
+ * those draws while generating a value, then replaying a simpler sequence
+ * of draws through the same generator, yields a simpler value that the
+ * generator could have produced, whether or not the generator knows how
+ * to shrink its values.</p>
+ *
+ * <p>A draw of an integral value from a range of fewer than
+ * {@link Integer#MAX_VALUE} values is recorded as a single choice: the
+ * value's offset from the bottom of the range. Lesser choices then give
+ * lesser values, so simplifying the choices simplifies the value.</p>
+ */
+public final class Choices extends SourceOfRandomness {
+    private static final int OVERRUN = 1024;
+
+    private final Source source;
+
+    private Choices(Source source) {
+        super(source);
+        this.source = source;
+        rewind();
+    }
+
+    /**
+     * @return a source of randomness that records the choices drawn from it
+     */
+    public static Choices recording() {
+        return new Choices(new Source(null));
+    }
+
+    /**
+     * Makes a source of randomness that gives the given choices in turn,
+     * then zeros. A generator that draws many more choices than given, as
+     * it might when looping until a draw satisfies some condition, is
+     * stopped with {@link ExhaustedException}.
+     *
+     * @param choices choices to give
+     * @return a source of randomness that replays the choices
+     */
+    public static Choices replaying(int[] choices) {
+        return new Choices(new Source(choices.clone()));
+    }
+
+    @Override public int nextInt(int n) {
+        return source.nextOffset(n);
+    }
+
+    @Override public long nextLong(long min, long max) {
+        int comparison = checkRange(Ranges.Type.INTEGRAL, min, max);
+        if (comparison == 0)
+            return min;
+
+        long range = max - min + 1;
+        return range > 0 && range <= Integer.MAX_VALUE
+            ? min + source.nextOffset((int) range)
+            : super.nextLong(min, max);
+    }
+
+    /**
+     * Forgets the choices drawn so far, and, if replaying, starts again
+     * from the first choice.
+     */
+    public void rewind() {
+        source.count = 0;
+    }
+
+    /**
+     * @return the choices drawn since the last {@linkplain #rewind() rewind}
+     */
+    public int[] drawn() {
+        return Arrays.copyOf(source.drawn, source.count);
+    }
+
+    /**
+     * Gives, on demand, sequences of choices simpler than the given one:
+     * first the sequences that {@linkplain Reductions#ddmin(java.util.List)
+     * delta debugging} would try, which drop choices; then, choice by
+     * choice, the sequences with that choice replaced by zero, by half of
+     * itself, by itself less each of its set bits from highest to lowest,
+     * and by one step closer to zero. Clearing bits from the highest down
+     * reaches any lesser choice in about as many steps as the choice has
+     * bits.
+     *
+     * @param larger a sequence of choices
+     * @return simpler sequences of choices
+     */
+    public static Stream<int[]> shrinks(int[] larger) {
+        Stream<int[]> removals =
+            ddmin(IntStream.of(larger).boxed().collect(toList()))
+                .map(c -> c.stream().mapToInt(Integer::intValue).toArray());
+        Stream<int[]> reductions =
+            IntStream.range(0, larger.length)
+                .filter(i -> larger[i] != 0)
+                .boxed()
+                .flatMap(i -> reductionsOf(larger[i])
+                    .mapToObj(c -> withChoice(larger, i, c)));
+
+        return Stream.concat(removals, reductions);
+    }
+
+    /**
+     * Tells whether one sequence of choices is simpler than another: either
+     * shorter, or of the same length and, at the first choice in which they
+     * differ, closer to zero.
+     *
+     * @param first a sequence of choices
+     * @param second another sequence of choices
+     * @return whether {@code first} is simpler than {@code second}
+     */
+    public static boolean simpler(int[] first, int[] second) {
+        if (first.length != second.length)
+            return first.length < second.length;
+
+        for (int i = 0; i < first.length; ++i) {
+            long firstDistance = Math.abs((long) first[i]);
+            long secondDistance = Math.abs((long) second[i]);
+            if (firstDistance != secondDistance)
+                return firstDistance < secondDistance;
+        }
+
+        return false;
+    }
+
+    private static IntStream reductionsOf(int choice) {
+        IntStream withoutBits =
+            IntStream.iterate(31, bit -> bit - 1)
+                .limit(32)
+                .filter(bit -> (choice & (1 << bit)) != 0)
+                .map(bit -> choice & ~(1 << bit));
+
+        return IntStream.concat(
+            IntStream.concat(IntStream.of(0, choice / 2), withoutBits),
+            IntStream.of(choice - Integer.signum(choice)))
+            .distinct();
+    }
+
+    private static int[] withChoice(int[] choices, int index, int choice) {
+        int[] replaced = choices.clone();
+        replaced[index] = choice;
+        return replaced;
+    }
+
+    /**
+     * Raised when a generator draws many more choices than a replayed
+     * sequence gives.
+     */
+    public static class ExhaustedException extends RuntimeException {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        ExhaustedException(int count) {
+            super("Drew " + count + " choices from a replayed sequence");
+        }
+    }
+
+    private static final class Source extends Random {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        private final int[] replayed;
+
+        private int[] drawn = new int[16];
+        private int count;
+        private boolean drawingOffset;
+
+        Source(int[] replayed) {
+            this.replayed = replayed;
+        }
+
+        @Override protected int next(int bits) {
+            if (drawingOffset)
+                return super.next(bits);
+
+            return record(
+                replayed == null
+                    ? super.next(bits)
+                    : replay() & (int) ((1L << bits) - 1));
+        }
+
+        int nextOffset(int bound) {
+            if (bound <= 0)
+                return nextInt(bound);
+            if (replayed != null)
+                return record(Math.floorMod(replay(), bound));
+
+            drawingOffset = true;
+            try {
+                return record(nextInt(bound));
+            } finally {
+                drawingOffset = false;
+            }
+        }
+
+        private int replay() {
+            if (count < replayed.length)
+                return replayed[count];
+            if (count < replayed.length + OVERRUN)
+                return 0;
+
+            throw new ExhaustedException(count);
+        }
+
+        private int record(int choice) {
+            if (count == drawn.length)
+                drawn = Arrays.copyOf(drawn, count * 2);
+            drawn[count++] = choice;
+
+            return choice;
+        }
+    }
+}
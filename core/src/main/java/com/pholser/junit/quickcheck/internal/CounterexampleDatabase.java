@@ -0,0 +1,232 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * File-backed store of the trials that falsified properties, so that they
+ * can be verified again first on later runs. Each property's entries live
+ * in their own small binary file, most recent first, at most
+ * {@code capacity} of them.
+ *
+ * <p>Nothing is held in memory between calls; each call reads or replaces
+ * a property's file. A file is replaced by moving a complete new file over
+ * it, so a reader never sees a partly written file. Of two runs recording
+ * the same property at once, the last to replace the file wins.</p>
+ */
+public class CounterexampleDatabase {
+    public static final String LOCATION = "junit-quickcheck.counterexamples";
+    public static final String CAPACITY =
+        "junit-quickcheck.counterexamples.capacity";
+
+    private static final int MAGIC = 0x4a514345;
+    private static final byte VERSION = 1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Path directory;
+    private final int capacity;
+
+    public CounterexampleDatabase(Path directory, int capacity) {
+        this.directory = directory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return a database in the directory named by the system property
+     * {@value #LOCATION}, or {@code null} if it is not set
+     * @throws IllegalArgumentException if the system property
+     * {@value #CAPACITY} is negative
+     */
+    public static CounterexampleDatabase configured() {
+        String location = System.getProperty(LOCATION);
+        if (location == null || location.trim().isEmpty())
+            return null;
+
+        int capacity = Integer.getInteger(CAPACITY, DEFAULT_CAPACITY);
+        if (capacity < 0) {
+            throw new IllegalArgumentException(
+                format(
+                    "bad %s [%d]; expected a count of entries to keep",
+                    CAPACITY,
+                    capacity));
+        }
+
+        return new CounterexampleDatabase(Paths.get(location.trim()), capacity);
+    }
+
+    public List<Entry> entriesFor(String key) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file))
+            return Collections.emptyList();
+
+        try (DataInputStream in =
+            new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+
+            if (in.readInt() != MAGIC
+                || in.readByte() != VERSION
+                || !key.equals(in.readUTF())) {
+
+                return Collections.emptyList();
+            }
+
+            int count = in.readInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; ++i) {
+                long trial = in.readLong();
+                long[] seeds = new long[in.readUnsignedShort()];
+                for (int j = 0; j < seeds.length; ++j)
+                    seeds[j] = in.readLong();
+                entries.add(new Entry(trial, seeds));
+            }
+            return entries;
+        } catch (IOException e) {
+            // A damaged file is no worse than no file at all.
+            return Collections.emptyList();
+        }
+    }
+
+    public void record(String key, Entry entry) {
+        List<Entry> entries = new ArrayList<>(entriesFor(key));
+        entries.remove(entry);
+        entries.add(0, entry);
+        write(key, entries.subList(0, Math.min(capacity, entries.size())));
+    }
+
+    public void remove(String key, Entry entry) {
+        List<Entry> entries = new ArrayList<>(entriesFor(key));
+        if (entries.remove(entry))
+            write(key, entries);
+    }
+
+    private void write(String key, List<Entry> entries) {
+        Path file = fileFor(key);
+
+        try {
+            if (entries.isEmpty()) {
+                Files.deleteIfExists(file);
+                return;
+            }
+
+            Files.createDirectories(directory);
+            Path temp =
+                Files.createTempFile(directory, "counterexamples", null);
+            try {
+                try (DataOutputStream out =
+                    new DataOutputStream(
+                        new BufferedOutputStream(
+                            Files.newOutputStream(temp)))) {
+
+                    writeEntries(out, key, entries);
+                }
+
+                try {
+                    Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeEntries(
+        DataOutputStream out,
+        String key,
+        List<Entry> entries)
+        throws IOException {
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeUTF(key);
+        out.writeInt(entries.size());
+        for (Entry each : entries) {
+            out.writeLong(each.trial);
+            out.writeShort(each.seeds.length);
+            for (long seed : each.seeds)
+                out.writeLong(seed);
+        }
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._$#-]", "_"));
+    }
+
+    public static final class Entry {
+        private final long trial;
+        private final long[] seeds;
+
+        public Entry(long trial, long[] seeds) {
+            this.trial = trial;
+            this.seeds = seeds.clone();
+        }
+
+        public long trial() {
+            return trial;
+        }
+
+        public long[] seeds() {
+            return seeds.clone();
+        }
+
+        @Override public boolean equals(Object o) {
+            if (!(o instanceof Entry))
+                return false;
+
+            Entry other = (Entry) o;
+            return trial == other.trial && Arrays.equals(seeds, other.seeds);
+        }
+
+        @Override public int hashCode() {
+            return Long.hashCode(trial) ^ Arrays.hashCode(seeds);
+        }
+
+        @Override public String toString() {
+            return trial + ":" + Arrays.toString(seeds);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>A t-way covering array: rows of values, one for each of several
+ * parameters with finite domains, such that for any t of the parameters,
+ * every combination of their values appears in some row.</p>
+ *
+ * <p>Rows are chosen greedily, one at a time: of several candidate rows,
+ * each grown from a combination not yet covered by fixing the remaining
+ * parameters' values one by one so as to cover as many more combinations
+ * as possible, the row covering the most combinations not yet covered is
+ * taken.</p>
+ */
+public final class CoveringArray {
+    private static final int CANDIDATES = 20;
+
+    private final int[] radices;
+    private final List<int[]> subsets = new ArrayList<>();
+    private final List<List<Integer>> subsetsContaining = new ArrayList<>();
+    private final List<BitSet> uncovered = new ArrayList<>();
+    private final Random random;
+    private final List<int[]> rows = new ArrayList<>();
+
+    private long remaining;
+
+    /**
+     * @param radices how many values each parameter's domain has
+     * @param strength how many parameters' combinations of values to
+     * cover; no more than the number of parameters are covered
+     * @param random source of randomness used to break ties and choose
+     * among candidate rows
+     */
+    public CoveringArray(int[] radices, int strength, Random random) {
+        this.radices = radices.clone();
+        this.random = random;
+
+        for (int i = 0; i < radices.length; ++i)
+            subsetsContaining.add(new ArrayList<>());
+
+        if (radices.length == 0 || Arrays.stream(radices).anyMatch(r -> r == 0))
+            return;
+
+        int t = Math.max(1, Math.min(strength, radices.length));
+        chooseSubsets(new int[t], 0, 0);
+        for (int[] subset : subsets) {
+            int combinations = 1;
+            for (int member : subset) {
+                combinations =
+                    Math.multiplyExact(combinations, radices[member]);
+            }
+
+            BitSet bits = new BitSet(combinations);
+            bits.set(0, combinations);
+            uncovered.add(bits);
+            remaining += combinations;
+        }
+
+        while (remaining > 0)
+            take(bestCandidate());
+    }
+
+    /**
+     * @return the rows of this array; each row gives, for each parameter,
+     * the index of its value in that parameter's domain
+     */
+    public List<int[]> rows() {
+        return rows.stream().map(int[]::clone).collect(toList());
+    }
+
+    private void chooseSubsets(int[] subset, int position, int from) {
+        if (position == subset.length) {
+            int index = subsets.size();
+            subsets.add(subset.clone());
+            for (int member : subset)
+                subsetsContaining.get(member).add(index);
+            return;
+        }
+
+        int last = radices.length - (subset.length - position);
+        for (int i = from; i <= last; ++i) {
+            subset[position] = i;
+            chooseSubsets(subset, position + 1, i + 1);
+        }
+    }
+
+    private int[] bestCandidate() {
+        int[] best = null;
+        int bestGain = -1;
+
+        for (int i = 0; i < CANDIDATES; ++i) {
+            int[] candidate = candidate();
+            int gain = gain(candidate);
+            if (gain > bestGain) {
+                best = candidate;
+                bestGain = gain;
+            }
+        }
+
+        return best;
+    }
+
+    private int[] candidate() {
+        int[] row = new int[radices.length];
+        Arrays.fill(row, -1);
+
+        int start = random.nextInt(subsets.size());
+        int s = start;
+        while (uncovered.get(s).isEmpty())
+            s = (s + 1) % subsets.size();
+        seed(row, s);
+
+        List<Integer> unfixed = new ArrayList<>();
+        for (int i = 0; i < row.length; ++i) {
+            if (row[i] < 0)
+                unfixed.add(i);
+        }
+        Collections.shuffle(unfixed, random);
+
+        for (int parameter : unfixed)
+            row[parameter] = bestValue(row, parameter);
+
+        return row;
+    }
+
+    private void seed(int[] row, int s) {
+        BitSet bits = uncovered.get(s);
+        int[] subset = subsets.get(s);
+
+        int combination = bits.nextSetBit(random.nextInt(bits.length()));
+        if (combination < 0)
+            combination = bits.nextSetBit(0);
+
+        for (int member : subset) {
+            row[member] = combination % radices[member];
+            combination /= radices[member];
+        }
+    }
+
+    private int bestValue(int[] row, int parameter) {
+        int best = 0;
+        int bestCount = -1;
+        int ties = 0;
+
+        for (int value = 0; value < radices[parameter]; ++value) {
+            row[parameter] = value;
+            int count = 0;
+            for (int s : subsetsContaining.get(parameter)) {
+                if (fixed(row, subsets.get(s))
+                    && uncovered.get(s).get(index(row, subsets.get(s)))) {
+
+                    ++count;
+                }
+            }
+
+            if (count > bestCount) {
+                best = value;
+                bestCount = count;
+                ties = 1;
+            } else if (count == bestCount && random.nextInt(++ties) == 0) {
+                best = value;
+            }
+        }
+
+        return best;
+    }
+
+    private int gain(int[] row) {
+        int gain = 0;
+        for (int s = 0; s < subsets.size(); ++s) {
+            if (uncovered.get(s).get(index(row, subsets.get(s))))
+                ++gain;
+        }
+        return gain;
+    }
+
+    private void take(int[] row) {
+        for (int s = 0; s < subsets.size(); ++s) {
+            int index = index(row, subsets.get(s));
+            if (uncovered.get(s).get(index)) {
+                uncovered.get(s).clear(index);
+                --remaining;
+            }
+        }
+
+        rows.add(row);
+    }
+
+    private static boolean fixed(int[] row, int[] subset) {
+        for (int member : subset) {
+            if (row[member] < 0)
+                return false;
+        }
+        return true;
+    }
+
+    private int index(int[] row, int[] subset) {
+        int index = 0;
+        for (int i = subset.length - 1; i >= 0; --i)
+            index = index * radices[subset[i]] + row[subset[i]];
+        return index;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class Durations {
+    private static final Pattern SHORTHAND =
+        Pattern.compile("(\\d+)\\s*(ms|s|m|h|d)");
+
+    private Durations() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Parses a duration either in shorthand form, a whole number followed
+     * by one of {@code ms}, {@code s}, {@code m}, {@code h}, or {@code d}
+     * (e.g. {@code "30s"}), or in ISO-8601 form (e.g. {@code "PT30S"}).
+     *
+     * @param text the text to parse
+     * @return the duration denoted by the text; {@link Duration#ZERO} if
+     * the text is empty
+     */
+    public static Duration parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.isEmpty())
+            return Duration.ZERO;
+
+        Matcher shorthand = SHORTHAND.matcher(trimmed);
+        if (shorthand.matches()) {
+            long amount = Long.parseLong(shorthand.group(1));
+            switch (shorthand.group(2)) {
+                case "ms":
+                    return Duration.ofMillis(amount);
+                case "s":
+                    return Duration.ofSeconds(amount);
+                case "m":
+                    return Duration.ofMinutes(amount);
+                case "h":
+                    return Duration.ofHours(amount);
+                default:
+                    return Duration.ofDays(amount);
+            }
+        }
+
+        try {
+            return Duration.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(
+                format("bad duration [%s]", text),
+                e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for giving edge values made of parts.
+ *
+ * @see com.pholser.junit.quickcheck.generator.Generator#edgeCases
+ */
+public final class EdgeCases {
+    private EdgeCases() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gives lists at the edges of a range of lengths: one of the least
+     * length, one of the greatest, and one just longer than the least.
+     * A list of length one is given once for each of the given edge items;
+     * other lists are filled with items from the given source.
+     *
+     * @param <T> type of the items
+     * @param minLength least length of a list, inclusive
+     * @param maxLength greatest length of a list, inclusive
+     * @param items edge values of the items
+     * @param fill gives a fresh stream of items with which to fill a list
+     * @return the edge lists, shortest first
+     */
+    public static <T> List<List<T>> sequences(
+        int minLength,
+        int maxLength,
+        List<? extends T> items,
+        Supplier<? extends Stream<? extends T>> fill) {
+
+        Set<Integer> lengths =
+            new LinkedHashSet<>(asList(minLength, minLength + 1, maxLength));
+
+        List<List<T>> sequences = new ArrayList<>();
+        for (int length : lengths) {
+            if (length < minLength || length > maxLength)
+                continue;
+
+            if (length == 1 && !items.isEmpty()) {
+                for (T each : items)
+                    sequences.add(singletonList(each));
+            } else {
+                List<T> filled = new ArrayList<>(length);
+                fill.get().limit(length).forEach(filled::add);
+                sequences.add(filled);
+            }
+        }
+        return sequences;
+    }
+}
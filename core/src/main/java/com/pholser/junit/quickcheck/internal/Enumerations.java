@@ -0,0 +1,111 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for enumerating values made of parts, each of which has a size.
+ *
+ * @see com.pholser.junit.quickcheck.generator.Generator#enumerate(int)
+ */
+public final class Enumerations {
+    private Enumerations() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gives the lists of at most {@code maxLength} items whose length plus
+     * the sizes of their items add up to {@code size}.
+     *
+     * @param <T> type of the items
+     * @param size size of the lists to give
+     * @param maxLength longest list to give
+     * @param items gives the items of a given size
+     * @return the lists of the given size
+     */
+    public static <T> Stream<List<T>> sequences(
+        int size,
+        int maxLength,
+        IntFunction<? extends Stream<? extends T>> items) {
+
+        if (size == 0)
+            return Stream.of(emptyList());
+        if (maxLength == 0)
+            return Stream.empty();
+
+        return flatMapLazily(
+            IntStream.range(0, size).boxed(),
+            k -> flatMapLazily(
+                items.apply(k),
+                head -> Enumerations.<T> sequences(
+                    size - 1 - k,
+                    maxLength - 1,
+                    items)
+                    .map(tail -> prepend(head, tail))));
+    }
+
+    /**
+     * Gives the tuples made of an item from each of the given sources whose
+     * items' sizes add up to {@code size}.
+     *
+     * @param size size of the tuples to give
+     * @param sources give the items of a given size, one source per
+     * position in a tuple
+     * @return the tuples of the given size
+     */
+    public static Stream<List<Object>> tuples(
+        int size,
+        List<? extends IntFunction<? extends Stream<?>>> sources) {
+
+        if (sources.isEmpty())
+            return size == 0 ? Stream.of(emptyList()) : Stream.empty();
+
+        IntFunction<? extends Stream<?>> first = sources.get(0);
+        List<? extends IntFunction<? extends Stream<?>>> rest =
+            sources.subList(1, sources.size());
+        return flatMapLazily(
+            IntStream.rangeClosed(0, size).boxed(),
+            k -> flatMapLazily(
+                first.apply(k),
+                head -> tuples(size - k, rest)
+                    .map(tail -> prepend((Object) head, tail))));
+    }
+
+    private static <T> List<T> prepend(T head, List<? extends T> tail) {
+        List<T> items = new ArrayList<>(tail.size() + 1);
+        items.add(head);
+        items.addAll(tail);
+        return items;
+    }
+}
@@ -25,15 +25,24 @@
 
 package com.pholser.junit.quickcheck.internal;
 
+import static java.util.Collections.emptyIterator;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class Lists {
     private Lists() {
@@ -73,38 +82,105 @@ public final class Lists {
         List<T> target,
         Shrink<T> shrink) {
 
-        if (target.isEmpty())
-            return new ArrayList<>();
-
-        T head = target.get(0);
-        List<T> tail = target.subList(1, target.size());
-
         List<List<T>> shrinks = new ArrayList<>();
-        shrinks.addAll(
-            shrink.shrink(random, head)
-                .stream()
-                .map(i -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(i);
-                    items.addAll(tail);
-                    return items;
-                })
-                .collect(toList()));
-        shrinks.addAll(
-            shrinksOfOneItem(random, tail, shrink)
-                .stream()
-                .map(s -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(head);
-                    items.addAll(s);
-                    return items;
-                })
-                .collect(toList()));
+        for (int i = 0; i < target.size(); ++i) {
+            for (T each : shrink.shrink(random, target.get(i))) {
+                List<T> items = new ArrayList<>(target);
+                items.set(i, each);
+                shrinks.add(items);
+            }
+        }
 
         return shrinks;
     }
 
+    /**
+     * Gives, on demand, the lists that differ from the given list only in
+     * one item, replaced by one of that item's shrinks, in the same order as
+     * {@link #shrinksOfOneItem(SourceOfRandomness, List, Shrink)}. Each list
+     * is an unmodifiable view of the target with one replaced item, so the
+     * target must not be modified while the lists are in use; copy a list
+     * to keep it.
+     *
+     * @param <T> type of list items
+     * @param random source of randomness to use in shrinking
+     * @param target list whose items to shrink
+     * @param shrink shrinker of items
+     * @return lists each with one item of the target shrunk
+     */
+    public static <T> Stream<List<T>> shrinksOfOneItemLazily(
+        SourceOfRandomness random,
+        List<T> target,
+        Shrink<T> shrink) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(
+                new OneItemShrinkIterator<>(random, target, shrink),
+                ORDERED),
+            false);
+    }
+
     public static <T> boolean isDistinct(List<T> target) {
         return new HashSet<>(target).size() == target.size();
     }
+
+    private static final class OneItemShrinkIterator<T>
+        implements Iterator<List<T>> {
+
+        private final SourceOfRandomness random;
+        private final List<T> target;
+        private final Shrink<T> shrink;
+
+        private int index = -1;
+        private Iterator<T> shrinks = emptyIterator();
+
+        OneItemShrinkIterator(
+            SourceOfRandomness random,
+            List<T> target,
+            Shrink<T> shrink) {
+
+            this.random = random;
+            this.target = target;
+            this.shrink = shrink;
+        }
+
+        @Override public boolean hasNext() {
+            while (!shrinks.hasNext() && ++index < target.size()) {
+                shrinks =
+                    shrink.shrinkLazily(random, target.get(index)).iterator();
+            }
+
+            return shrinks.hasNext();
+        }
+
+        @Override public List<T> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return new WithReplacedItem<>(target, index, shrinks.next());
+        }
+    }
+
+    private static final class WithReplacedItem<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+        private final List<T> target;
+        private final int index;
+        private final T replacement;
+
+        WithReplacedItem(List<T> target, int index, T replacement) {
+            this.target = target;
+            this.index = index;
+            this.replacement = replacement;
+        }
+
+        @Override public T get(int i) {
+            return i == index ? replacement : target.get(i);
+        }
+
+        @Override public int size() {
+            return target.size();
+        }
+    }
 }
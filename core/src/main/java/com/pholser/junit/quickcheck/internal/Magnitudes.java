@@ -0,0 +1,68 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+public final class Magnitudes {
+    private Magnitudes() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Adds up magnitudes in {@code double} arithmetic, switching to exact
+     * arithmetic only if the running total would overflow. Magnitudes are
+     * hints to the shrinking process, so the loss of precision is harmless,
+     * and summing the magnitudes of large collections this way avoids a
+     * {@link BigDecimal} addition per item.
+     *
+     * @param magnitudes magnitudes to add up
+     * @return their sum, possibly approximate
+     */
+    public static BigDecimal sum(Stream<BigDecimal> magnitudes) {
+        double approximate = 0;
+        BigDecimal exact = null;
+
+        Iterator<BigDecimal> i = magnitudes.iterator();
+        while (i.hasNext()) {
+            BigDecimal next = i.next();
+
+            if (exact != null) {
+                exact = exact.add(next);
+            } else {
+                double total = approximate + next.doubleValue();
+                if (Double.isInfinite(total))
+                    exact = BigDecimal.valueOf(approximate).add(next);
+                else
+                    approximate = total;
+            }
+        }
+
+        return exact == null ? BigDecimal.valueOf(approximate) : exact;
+    }
+}
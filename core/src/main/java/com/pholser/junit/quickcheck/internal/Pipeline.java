@@ -0,0 +1,122 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Drains a source of non-{@code null} items on a producer thread into a
+ * bounded buffer, handing them to the consumer in source order.
+ */
+public class Pipeline<T> implements Iterator<T>, AutoCloseable {
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> buffer;
+    private final Thread producer;
+
+    private Object next;
+
+    public Pipeline(Iterator<T> source, int capacity, String name) {
+        buffer = new ArrayBlockingQueue<>(capacity);
+        producer = new Thread(() -> produce(source), name);
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    @Override public boolean hasNext() {
+        if (next == null)
+            next = take();
+
+        if (next instanceof Failure)
+            throw ((Failure) next).rethrow();
+
+        return next != END;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        T item = (T) next;
+        next = null;
+        return item;
+    }
+
+    @Override public void close() {
+        // Wait out the item in production, so that the consumer can then
+        // safely touch state it shares with the source.
+        producer.interrupt();
+
+        try {
+            producer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void produce(Iterator<T> source) {
+        try {
+            try {
+                while (source.hasNext())
+                    buffer.put(source.next());
+            } catch (RuntimeException | Error ex) {
+                buffer.put(new Failure(ex));
+                return;
+            }
+
+            buffer.put(END);
+        } catch (InterruptedException stopped) {
+            // the consumer closed the pipeline
+        }
+    }
+
+    private Object take() {
+        try {
+            return buffer.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        RuntimeException rethrow() {
+            if (cause instanceof Error)
+                throw (Error) cause;
+            return (RuntimeException) cause;
+        }
+    }
+}
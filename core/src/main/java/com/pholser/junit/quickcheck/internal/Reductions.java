@@ -0,0 +1,136 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class Reductions {
+    private Reductions() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Gives, on demand, the smaller lists that delta debugging ("ddmin")
+     * would try in reducing the given list: first the empty list; then,
+     * splitting the list into 2, 4, 8, ... contiguous chunks until each
+     * chunk holds one item, each chunk alone followed by the list without
+     * each chunk.
+     *
+     * <p>The shrinking process commits to the first of these that still
+     * fails a property and asks again of the smaller list, so a list can be
+     * reduced to the few items a failure depends on in a number of steps
+     * logarithmic in its size.</p>
+     *
+     * @param <T> type of list items
+     * @param target list to reduce
+     * @return lists made of items of the target list, smaller lists first
+     * within each granularity
+     */
+    public static <T> Stream<List<T>> ddmin(List<T> target) {
+        return StreamSupport.stream(
+            spliteratorUnknownSize(new DdminIterator<>(target), ORDERED),
+            false);
+    }
+
+    private static final class DdminIterator<T> implements Iterator<List<T>> {
+        private final List<T> target;
+
+        private int granularity;
+        private boolean complements;
+        private int chunk;
+
+        DdminIterator(List<T> target) {
+            this.target = target;
+            this.granularity = target.isEmpty() ? 0 : 1;
+            this.complements = true;
+        }
+
+        @Override public boolean hasNext() {
+            return granularity != 0;
+        }
+
+        @Override public List<T> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            List<T> next = granularity == 1
+                ? new ArrayList<>()
+                : complements ? withoutChunk() : chunk();
+            advance();
+            return next;
+        }
+
+        private List<T> chunk() {
+            return new ArrayList<>(target.subList(start(chunk), end(chunk)));
+        }
+
+        private List<T> withoutChunk() {
+            List<T> rest = new ArrayList<>(
+                target.size() - (end(chunk) - start(chunk)));
+            rest.addAll(target.subList(0, start(chunk)));
+            rest.addAll(target.subList(end(chunk), target.size()));
+            return rest;
+        }
+
+        private void advance() {
+            if (++chunk < granularity)
+                return;
+
+            chunk = 0;
+            if (!complements) {
+                complements = true;
+                return;
+            }
+
+            if (granularity >= target.size()) {
+                granularity = 0;
+                return;
+            }
+
+            granularity = Math.min(granularity * 2, target.size());
+
+            // With two chunks, each chunk alone is the list without the
+            // other, so only the latter are given.
+            complements = granularity == 2;
+        }
+
+        private int start(int index) {
+            return (int) ((long) index * target.size() / granularity);
+        }
+
+        private int end(int index) {
+            return start(index + 1);
+        }
+    }
+}
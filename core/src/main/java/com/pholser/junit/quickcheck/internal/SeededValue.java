@@ -32,12 +32,49 @@ public final class SeededValue {
     private final PropertyParameterGenerationContext p;
     private final Object value;
     private final long seed;
+    private final long trial;
+    private final long trialSeed;
+    private final int[] choices;
 
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public SeededValue(PropertyParameterGenerationContext p) {
         this.p = p;
         this.value = p.generate();
         this.seed = p.effectiveSeed();
+        this.trial = p.trial();
+        this.trialSeed = p.trialSeed();
+        this.choices = p.choices();
+    }
+
+    /**
+     * Makes a value generated from replayed choices rather than from the
+     * parameter's source of randomness, so it belongs to no trial.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public SeededValue(
+        PropertyParameterGenerationContext p,
+        PropertyParameterGenerationContext.Replay replay) {
+
+        this.p = p;
+        this.value = replay.value();
+        this.seed = p.effectiveSeed();
+        this.trial = -1;
+        this.trialSeed = p.trialSeed();
+        this.choices = replay.choices();
+    }
+
+    /**
+     * Makes a value chosen, as by enumeration, rather than generated from
+     * the parameter's source of randomness, so it belongs to no trial.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public SeededValue(PropertyParameterGenerationContext p, Object value) {
+        this.p = p;
+        this.value = value;
+        this.seed = p.effectiveSeed();
+        this.trial = -1;
+        this.trialSeed = p.trialSeed();
+        this.choices = null;
     }
 
     @SuppressFBWarnings("EI_EXPOSE_REP")
@@ -53,6 +90,19 @@ public final class SeededValue {
         return seed;
     }
 
+    public long trial() {
+        return trial;
+    }
+
+    public long trialSeed() {
+        return trialSeed;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public int[] choices() {
+        return choices;
+    }
+
     @Override public String toString() {
         return String.format("%s = [%s], seed = %d", p.name(), value, seed);
     }
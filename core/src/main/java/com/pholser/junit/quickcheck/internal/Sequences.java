@@ -26,11 +26,17 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static java.math.RoundingMode.HALF_UP;
+import static java.util.Collections.emptyIterator;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class Sequences {
     private Sequences() {
@@ -55,6 +61,59 @@ public final class Sequences {
         return () -> new IntegerHalvingIterator(start);
     }
 
+    /**
+     * Maps each of the given items to a stream and concatenates the streams,
+     * as {@link Stream#flatMap(Function)} does, but draws from each mapped
+     * stream only as many items as are asked of the result. On JDK 8,
+     * {@code flatMap} pushes all of a mapped stream's items through the
+     * pipeline once any of them is asked for.
+     *
+     * @param <T> type of items to map
+     * @param <R> type of items of the mapped streams
+     * @param items items to map
+     * @param mapper maps an item to a stream
+     * @return the items of the mapped streams, in order
+     */
+    public static <T, R> Stream<R> flatMapLazily(
+        Stream<T> items,
+        Function<? super T, ? extends Stream<? extends R>> mapper) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(
+                new FlatMapIterator<>(items.iterator(), mapper),
+                ORDERED),
+            false);
+    }
+
+    private static final class FlatMapIterator<T, R> implements Iterator<R> {
+        private final Iterator<T> items;
+        private final Function<? super T, ? extends Stream<? extends R>> mapper;
+
+        private Iterator<? extends R> current = emptyIterator();
+
+        FlatMapIterator(
+            Iterator<T> items,
+            Function<? super T, ? extends Stream<? extends R>> mapper) {
+
+            this.items = items;
+            this.mapper = mapper;
+        }
+
+        @Override public boolean hasNext() {
+            while (!current.hasNext() && items.hasNext())
+                current = mapper.apply(items.next()).iterator();
+
+            return current.hasNext();
+        }
+
+        @Override public R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return current.next();
+        }
+    }
+
     private static final class BigIntegerHalvingIterator
         implements Iterator<BigInteger> {
 
@@ -27,12 +27,17 @@ package com.pholser.junit.quickcheck.internal;
 
 import com.pholser.junit.quickcheck.MinimalCounterexampleHook;
 import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.ShrinkStrategy;
+import com.pholser.junit.quickcheck.TrialExecutor;
 
 public class ShrinkControl {
     private final boolean shouldShrink;
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
+    private final ShrinkStrategy shrinkStrategy;
+    private final TrialExecutor executor;
     private final MinimalCounterexampleHook onMinimalCounterexample;
 
     public ShrinkControl(Property marker)
@@ -42,6 +47,9 @@ public class ShrinkControl {
         this.maxShrinks = marker.maxShrinks();
         this.maxShrinkDepth = marker.maxShrinkDepth();
         this.maxShrinkTime = marker.maxShrinkTime();
+        this.shrinkParallelism = marker.shrinkParallelism();
+        this.shrinkStrategy = marker.shrinkStrategy();
+        this.executor = marker.executor().newInstance();
         this.onMinimalCounterexample =
             marker.onMinimalCounterexample().newInstance();
     }
@@ -62,6 +70,18 @@ public class ShrinkControl {
         return maxShrinkTime;
     }
 
+    public int shrinkParallelism() {
+        return shrinkParallelism;
+    }
+
+    public ShrinkStrategy shrinkStrategy() {
+        return shrinkStrategy;
+    }
+
+    public TrialExecutor executor() {
+        return executor;
+    }
+
     public MinimalCounterexampleHook onMinimalCounterexample() {
         return onMinimalCounterexample;
     }
@@ -25,15 +25,14 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Enumerations.sequences;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
 import static com.pholser.junit.quickcheck.internal.Reflection.annotatedComponentTypes;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
 import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -41,13 +40,14 @@ import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Generators;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.EdgeCases;
 import com.pholser.junit.quickcheck.internal.Lists;
+import com.pholser.junit.quickcheck.internal.Magnitudes;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -119,29 +119,81 @@ public class ArrayGenerator extends Generator<Object> {
         SourceOfRandomness random,
         Object larger) {
 
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
         int length = Array.getLength(larger);
         List<Object> asList = new ArrayList<>();
         for (int i = 0; i < length; ++i) {
             asList.add(Array.get(larger, i));
         }
 
-        List<Object> shrinks = new ArrayList<>(removals(asList));
-
         @SuppressWarnings("unchecked")
         Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, (Shrink<Object>) component)
-                .stream();
+            shrinksOfOneItemLazily(
+                random,
+                asList,
+                (Shrink<Object>) component);
         if (distinct) {
             oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
         }
 
-        shrinks.addAll(
+        return Stream.concat(
+            removals(asList),
             oneItemShrinks
                 .map(this::convert)
-                .filter(this::inLengthRange)
-                .collect(toList()));
+                .filter(this::inLengthRange));
+    }
+
+    @Override public boolean canEnumerate() {
+        return component.canEnumerate();
+    }
 
-        return shrinks;
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An array's size is its length plus the sizes of its elements.</p>
+     */
+    @Override public Stream<Object> enumerate(int size) {
+        Stream<List<Object>> items =
+            sequences(
+                size,
+                lengthRange == null ? Integer.MAX_VALUE : lengthRange.max(),
+                component::enumerate);
+        if (distinct)
+            items = items.filter(Lists::isDistinct);
+
+        return items.map(this::convert).filter(this::inLengthRange);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Gives an array of the least length, arrays of length one holding
+     * each of the component's edge values, and an array of the greatest
+     * length, all within the configured range of lengths.</p>
+     */
+    @Override public List<Object> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return EdgeCases.sequences(
+            lengthRange == null ? 0 : lengthRange.min(),
+            lengthRange == null ? 1 : lengthRange.max(),
+            component.edgeCases(random, status),
+            () -> {
+                Stream<?> items =
+                    Stream.generate(() -> component.generate(random, status))
+                        .sequential();
+                return distinct ? items.distinct() : items;
+            })
+            .stream()
+            .map(this::convert)
+            .collect(toList());
     }
 
     @Override public void provide(Generators provided) {
@@ -156,9 +208,9 @@ public class ArrayGenerator extends Generator<Object> {
             return ZERO;
 
         BigDecimal elementsMagnitude =
-            IntStream.range(0, length)
-                .mapToObj(i -> component.magnitude(Array.get(value, i)))
-                .reduce(ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                IntStream.range(0, length)
+                    .mapToObj(i -> component.magnitude(Array.get(value, i))));
         return BigDecimal.valueOf(length).multiply(elementsMagnitude);
     }
 
@@ -183,13 +235,10 @@ public class ArrayGenerator extends Generator<Object> {
             || (length >= lengthRange.min() && length <= lengthRange.max());
     }
 
-    private List<Object> removals(List<?> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
+    private Stream<Object> removals(List<?> items) {
+        return ddmin(items)
             .map(this::convert)
-            .filter(this::inLengthRange)
-            .collect(toList());
+            .filter(this::inLengthRange);
     }
 
     private Object convert(List<?> items) {
@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -40,6 +41,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class CompositeGenerator extends Generator<Object> {
     private final List<Weighted<Generator<?>>> composed;
@@ -68,13 +70,53 @@ public class CompositeGenerator extends Generator<Object> {
         SourceOfRandomness random,
         Object larger) {
 
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
         List<Weighted<Generator<?>>> shrinkers =
             composed.stream()
                 .filter(w -> w.item.canShrink(larger))
                 .collect(toList());
 
         Generator<?> choice = Items.chooseWeighted(shrinkers, random);
-        return new ArrayList<>(choice.shrink(random, larger));
+        return choice.shrinkLazily(random, larger).map(Object.class::cast);
+    }
+
+    @Override public boolean canEnumerate() {
+        return composed.stream().allMatch(w -> w.item.canEnumerate());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Gives the values of the given size that any of the composed
+     * generators give.</p>
+     */
+    @Override public Stream<Object> enumerate(int size) {
+        return flatMapLazily(composed.stream(), w -> w.item.enumerate(size))
+            .map(Object.class::cast)
+            .distinct();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Gives the edge values that any of the composed generators
+     * give.</p>
+     */
+    @Override public List<Object> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return composed.stream()
+            .flatMap(w -> w.item.edgeCases(random, status).stream())
+            .map(Object.class::cast)
+            .distinct()
+            .collect(toList());
     }
 
     Generator<?> composed(int index) {
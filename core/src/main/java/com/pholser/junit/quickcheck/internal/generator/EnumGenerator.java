@@ -25,9 +25,14 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static java.util.stream.Collectors.toList;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 public class EnumGenerator extends Generator<Enum> {
     private final Class<?> enumType;
@@ -50,4 +55,35 @@ public class EnumGenerator extends Generator<Enum> {
     @Override public boolean canShrink(Object larger) {
         return enumType.isInstance(larger);
     }
+
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Every constant of the enum has size zero.</p>
+     */
+    @Override public Stream<Enum> enumerate(int size) {
+        return size == 0
+            ? Arrays.stream(enumType.getEnumConstants()).map(Enum.class::cast)
+            : Stream.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The edge values are the enum's first and last constants.</p>
+     */
+    @Override public List<Enum> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        Object[] values = enumType.getEnumConstants();
+        return Stream.of(values[0], values[values.length - 1])
+            .distinct()
+            .map(Enum.class::cast)
+            .collect(toList());
+    }
 }
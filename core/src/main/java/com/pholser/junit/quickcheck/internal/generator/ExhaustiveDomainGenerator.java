@@ -35,8 +35,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class ExhaustiveDomainGenerator extends Generator<Object> {
+    private final List<?> values;
     private final Iterator<?> items;
 
     public ExhaustiveDomainGenerator(Collection<?> items) {
@@ -51,6 +53,7 @@ public class ExhaustiveDomainGenerator extends Generator<Object> {
             // this exception which cannot be sorted.
         }
 
+        this.values = list;
         this.items = list.iterator();
     }
 
@@ -61,6 +64,33 @@ public class ExhaustiveDomainGenerator extends Generator<Object> {
         return items.next();
     }
 
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Every value in the domain has size zero.</p>
+     */
+    @Override public Stream<Object> enumerate(int size) {
+        return size == 0
+            ? values.stream().map(Object.class::cast)
+            : Stream.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Every value in the domain is an edge value.</p>
+     */
+    @Override public List<Object> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return new ArrayList<>(values);
+    }
+
     boolean hasNext() {
         return items.hasNext();
     }
@@ -372,12 +372,19 @@ public class GeneratorRepository implements Generators {
         ParameterTypeContext parameter,
         List<Weighted<Generator<?>>> matches) {
 
-        List<Generator<?>> forComponents = new ArrayList<>();
-        for (ParameterTypeContext c : parameter.typeParameterContexts(random))
-            forComponents.add(generatorFor(c));
+        // Generators without components, such as a state machine's, can
+        // serve parameterized types whose type arguments have no generators.
+        if (matches.stream().anyMatch(w -> w.item.hasComponents())) {
+            List<Generator<?>> forComponents = new ArrayList<>();
+            for (ParameterTypeContext c
+                : parameter.typeParameterContexts(random)) {
+
+                forComponents.add(generatorFor(c));
+            }
 
-        for (Weighted<Generator<?>> each : matches)
-            applyComponentGenerators(each.item, forComponents);
+            for (Weighted<Generator<?>> each : matches)
+                applyComponentGenerators(each.item, forComponents);
+        }
 
         return matches.size() == 1
             ? matches.get(0).item
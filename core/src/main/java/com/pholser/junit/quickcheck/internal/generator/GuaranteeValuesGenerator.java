@@ -29,10 +29,15 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class GuaranteeValuesGenerator extends Generator<Object> {
     private final ExhaustiveDomainGenerator guaranteed;
     private final Generator<?> rest;
+    private final Set<Object> guaranteedValues;
 
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public GuaranteeValuesGenerator(
@@ -43,6 +48,8 @@ public class GuaranteeValuesGenerator extends Generator<Object> {
 
         this.guaranteed = guaranteed;
         this.rest = rest;
+        this.guaranteedValues = new HashSet<>();
+        guaranteed.enumerate(0).forEach(guaranteedValues::add);
     }
 
     @Override public Object generate(
@@ -53,4 +60,40 @@ public class GuaranteeValuesGenerator extends Generator<Object> {
             ? guaranteed.generate(random, status)
             : rest.generate(random, status);
     }
+
+    @Override public boolean canEnumerate() {
+        return rest.canEnumerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The guaranteed values have size zero.</p>
+     */
+    @Override public Stream<Object> enumerate(int size) {
+        Stream<Object> others =
+            rest.enumerate(size)
+                .map(Object.class::cast)
+                .filter(v -> !guaranteedValues.contains(v));
+        return size == 0
+            ? Stream.concat(guaranteed.enumerate(size), others)
+            : others;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The guaranteed values come first, followed by the other
+     * generator's edge values.</p>
+     */
+    @Override public List<Object> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<Object> edges = guaranteed.edgeCases(random, status);
+        rest.edgeCases(random, status).stream()
+            .filter(v -> !guaranteedValues.contains(v))
+            .forEach(edges::add);
+        return edges;
+    }
 }
@@ -34,8 +34,10 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 
 class NullableGenerator<T> extends Generator<T> {
@@ -105,10 +107,47 @@ class NullableGenerator<T> extends Generator<T> {
         return delegate.doShrink(random, larger);
     }
 
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
+        return delegate.doShrinkLazily(random, larger);
+    }
+
     @Override public BigDecimal magnitude(Object value) {
         return delegate.magnitude(value);
     }
 
+    @Override public boolean canEnumerate() {
+        return delegate.canEnumerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code null} has size zero.</p>
+     */
+    @Override public Stream<T> enumerate(int size) {
+        return size == 0
+            ? Stream.concat(Stream.of((T) null), delegate.enumerate(size))
+            : delegate.enumerate(size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code null} comes first.</p>
+     */
+    @Override public List<T> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<T> edges = new ArrayList<>();
+        edges.add(null);
+        edges.addAll(delegate.edgeCases(random, status));
+        return edges;
+    }
+
     private void configure(NullAllowed allowed) {
         if (allowed.probability() >= 0 && allowed.probability() <= 1) {
             this.probabilityOfNull = allowed.probability();
@@ -25,32 +25,46 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
+import com.pholser.junit.quickcheck.internal.Seeds;
 import com.pholser.junit.quickcheck.internal.constraint.ConstraintEvaluator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class PropertyParameterGenerationContext
     extends AbstractGenerationStatus {
 
     private final PropertyParameterContext parameter;
+    private final GeometricDistribution distro;
     private final ConstraintEvaluator evaluator;
     private final Generator<?> generator;
     private final int sampleSize;
+    private final long masterSeed;
+    private final long stride;
+    private final Choices choices;
 
     private int successfulEvaluations;
     private int discards;
-    private int semiAttempts;
+    private long nextTrial;
+    private long trial = -1;
+    private long trialSeed;
+    private int trialDiscards;
+    private int trialSemiAttempts;
+    private int[] drawn;
 
     public PropertyParameterGenerationContext(
         PropertyParameterContext parameter,
@@ -59,13 +73,37 @@ public class PropertyParameterGenerationContext
         SourceOfRandomness random,
         ParameterSampler sampler) {
 
+        this(parameter, repository, distro, random, sampler, 0, 1);
+    }
+
+    /**
+     * @param firstTrial index of the trial for which the first value is
+     * generated
+     * @param stride how far apart the indices of the trials for successive
+     * values are
+     */
+    public PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        SourceOfRandomness random,
+        ParameterSampler sampler,
+        long firstTrial,
+        long stride) {
+
         super(distro, initializeRandomness(parameter, random));
 
         this.parameter = parameter;
+        this.distro = distro;
         this.evaluator = new ConstraintEvaluator(parameter.constraint());
         this.generator =
             sampler.decideGenerator(repository, parameter.typeContext());
         this.sampleSize = sampler.sizeFactor(parameter.typeContext());
+        this.masterSeed = random().seed();
+        this.nextTrial = firstTrial;
+        this.stride = stride;
+        this.choices =
+            random() instanceof Choices ? (Choices) random() : null;
     }
 
     private static SourceOfRandomness initializeRandomness(
@@ -79,15 +117,122 @@ public class PropertyParameterGenerationContext
     }
 
     public Object generate() {
+        beginTrial();
+
         Object nextValue;
 
-        for (nextValue = generator.generate(random(), this);
-            !evaluate(nextValue);) {
+        for (nextValue = draw(); !evaluate(nextValue);)
+            nextValue = draw();
+
+        return nextValue;
+    }
+
+    private Object draw() {
+        if (choices != null)
+            choices.rewind();
 
-            nextValue = generator.generate(random(), this);
+        Object value = generator.generate(random(), this);
+
+        if (choices != null)
+            drawn = choices.drawn();
+        return value;
+    }
+
+    /**
+     * @return the random choices drawn in generating the most recent value,
+     * or {@code null} if this context's source of randomness does not
+     * {@linkplain Choices record} them
+     */
+    public int[] choices() {
+        return drawn == null ? null : drawn.clone();
+    }
+
+    /**
+     * Generates a value from the given choices in place of random ones, as
+     * if for the given trial.
+     *
+     * @param sequence choices to replay
+     * @param trialIndex index of the trial for which the value is generated
+     * @return the value generated and the choices drawn in generating it,
+     * or {@code null} if the value does not satisfy this parameter's
+     * constraint or the generator drew too many more choices than given
+     */
+    public Replay replay(int[] sequence, long trialIndex) {
+        Choices replaying = Choices.replaying(sequence);
+
+        try {
+            Object value =
+                generator.generate(
+                    replaying,
+                    new ReplayStatus(replaying, trialIndex));
+
+            evaluator.bind(value);
+            return evaluator.evaluate()
+                ? new Replay(value, replaying.drawn())
+                : null;
+        } catch (Choices.ExhaustedException ex) {
+            return null;
         }
+    }
 
-        return nextValue;
+    /**
+     * @return whether this parameter's generator can enumerate its values
+     */
+    public boolean canEnumerate() {
+        return generator.canEnumerate();
+    }
+
+    /**
+     * @param size size of the values to give
+     * @return the values of the given size that this parameter's generator
+     * enumerates and that satisfy this parameter's constraint
+     */
+    public Stream<Object> enumerate(int size) {
+        return generator.enumerate(size)
+            .map(Object.class::cast)
+            .filter(v -> {
+                evaluator.bind(v);
+                return evaluator.evaluate();
+            });
+    }
+
+    /**
+     * @return the values of this parameter's finite domain, such as a
+     * boolean's, an enum's, or those given by
+     * {@link com.pholser.junit.quickcheck.generator.Only}, that satisfy
+     * this parameter's constraint; or {@code null} if its generator draws
+     * on no such domain
+     */
+    public List<Object> finiteDomain() {
+        return generator instanceof ExhaustiveDomainGenerator
+            ? enumerate(0).collect(toList())
+            : null;
+    }
+
+    /**
+     * @return the distinct {@linkplain Generator#edgeCases edge values} of
+     * this parameter's generator that satisfy this parameter's constraint
+     */
+    public List<Object> edgeCases() {
+        return generator.edgeCases(random(), this).stream()
+            .map(Object.class::cast)
+            .distinct()
+            .filter(v -> {
+                evaluator.bind(v);
+                return evaluator.evaluate();
+            })
+            .collect(toList());
+    }
+
+    private void beginTrial() {
+        trial = nextTrial;
+        nextTrial += stride;
+        trialSeed = Seeds.forTrial(masterSeed, trial);
+        trialDiscards = 0;
+        trialSemiAttempts = 0;
+
+        if (trial > 0)
+            random().setSeed(trialSeed);
     }
 
     public List<Object> shrink(Object larger) {
@@ -96,6 +241,12 @@ public class PropertyParameterGenerationContext
             : emptyList();
     }
 
+    public Stream<Object> shrinkLazily(Object larger) {
+        return generator.canShrink(larger)
+            ? generator.shrinkLazily(random(), larger).map(Object.class::cast)
+            : Stream.empty();
+    }
+
     private boolean evaluate(Object value) {
         evaluator.bind(value);
         boolean result = evaluator.evaluate();
@@ -104,6 +255,7 @@ public class PropertyParameterGenerationContext
             ++successfulEvaluations;
         } else {
             ++discards;
+            ++trialDiscards;
         }
 
         if (tooManyDiscards()) {
@@ -129,16 +281,31 @@ public class PropertyParameterGenerationContext
         return min(super.size(), sampleSize());
     }
 
+    /**
+     * Counts the trials before the current one, rather than the values
+     * actually generated for them, so that a trial's values depend only on
+     * its index and seed.
+     */
     @Override public int attempts() {
-        return successfulEvaluations + discards + (semiAttempts / 10);
+        long attempts =
+            max(trial, 0) + trialDiscards + (trialSemiAttempts / 10);
+        return (int) min(attempts, Integer.MAX_VALUE);
     }
 
     @Override public void semiAttempt() {
-        ++semiAttempts;
+        ++trialSemiAttempts;
     }
 
     public long effectiveSeed() {
-        return random().seed();
+        return masterSeed;
+    }
+
+    public long trial() {
+        return trial;
+    }
+
+    public long trialSeed() {
+        return trialSeed;
     }
 
     public int sampleSize() {
@@ -155,6 +322,41 @@ public class PropertyParameterGenerationContext
             : ZERO;
     }
 
+    public static final class Replay {
+        private final Object value;
+        private final int[] choices;
+
+        Replay(Object value, int[] choices) {
+            this.value = value;
+            this.choices = choices;
+        }
+
+        public Object value() {
+            return value;
+        }
+
+        public int[] choices() {
+            return choices.clone();
+        }
+    }
+
+    private final class ReplayStatus extends AbstractGenerationStatus {
+        private final int attempts;
+
+        ReplayStatus(SourceOfRandomness random, long trialIndex) {
+            super(distro, random);
+            this.attempts = (int) min(max(trialIndex, 0), Integer.MAX_VALUE);
+        }
+
+        @Override public int size() {
+            return min(super.size(), sampleSize());
+        }
+
+        @Override public int attempts() {
+            return attempts;
+        }
+    }
+
     public static class DiscardRatioExceededException
         extends RuntimeException {
 
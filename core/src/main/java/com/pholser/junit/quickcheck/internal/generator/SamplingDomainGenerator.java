@@ -47,4 +47,16 @@ public class SamplingDomainGenerator extends Generator<Object> {
 
         return random.choose(items);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Every value in the domain is an edge value.</p>
+     */
+    @Override public List<Object> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return new ArrayList<>(items);
+    }
 }
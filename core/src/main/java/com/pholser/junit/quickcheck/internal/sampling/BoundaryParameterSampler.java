@@ -0,0 +1,129 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.internal.CartesianEnumerator;
+import com.pholser.junit.quickcheck.internal.CoveringArray;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Verifies tuples of the parameters' {@linkplain
+ * com.pholser.junit.quickcheck.generator.Generator#edgeCases edge values}
+ * first, then tuples of random values. If every combination of edge values
+ * fits within the given number of trials, verifies every one; otherwise
+ * verifies a {@link CoveringArray} of them of the given strength. A
+ * parameter without edge values gets a random value in each tuple of edge
+ * values.
+ */
+public class BoundaryParameterSampler extends TupleParameterSampler {
+    private final long trials;
+    private final int strength;
+
+    public BoundaryParameterSampler(int trials, int strength) {
+        super(trials);
+
+        this.trials = trials;
+        this.strength = strength;
+    }
+
+    @Override public Stream<List<SeededValue>> sample(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        List<List<Object>> edges =
+            parameters.stream()
+                .map(PropertyParameterGenerationContext::edgeCases)
+                .collect(toList());
+        List<List<Object>> domains =
+            edges.stream().filter(e -> !e.isEmpty()).collect(toList());
+
+        List<List<Object>> combinations = combinations(parameters, domains);
+        Stream<List<SeededValue>> edgeTuples =
+            combinations.stream().map(combination -> {
+                List<SeededValue> tuple = new ArrayList<>();
+                Iterator<Object> values = combination.iterator();
+                for (int i = 0; i < parameters.size(); ++i) {
+                    PropertyParameterGenerationContext p = parameters.get(i);
+                    tuple.add(
+                        edges.get(i).isEmpty()
+                            ? new SeededValue(p)
+                            : new SeededValue(p, values.next()));
+                }
+                return tuple;
+            });
+        Stream<List<SeededValue>> randomTuples =
+            Stream.generate(
+                () -> parameters.stream()
+                    .map(SeededValue::new)
+                    .collect(toList()))
+                .limit(trials - combinations.size());
+
+        return Stream.concat(edgeTuples, randomTuples);
+    }
+
+    private List<List<Object>> combinations(
+        List<PropertyParameterGenerationContext> parameters,
+        List<List<Object>> domains) {
+
+        if (domains.isEmpty())
+            return emptyList();
+
+        CartesianEnumerator<Object> product =
+            new CartesianEnumerator<>(domains);
+        if (product.size() <= trials) {
+            return StreamSupport.stream(product.spliterator(), false)
+                .collect(toList());
+        }
+
+        long seed = 0;
+        for (PropertyParameterGenerationContext p : parameters)
+            seed = seed * 31 + p.effectiveSeed();
+        CoveringArray array =
+            new CoveringArray(
+                domains.stream().mapToInt(List::size).toArray(),
+                strength,
+                new Random(seed));
+
+        return array.rows().stream()
+            .limit(trials)
+            .map(row -> {
+                List<Object> combination = new ArrayList<>();
+                for (int i = 0; i < row.length; ++i)
+                    combination.add(domains.get(i).get(row[i]));
+                return combination;
+            })
+            .collect(toList());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext.Replay;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+final class ChoiceMutations {
+    private static final int MAX_MUTATIONS = 4;
+
+    private ChoiceMutations() {
+        throw new UnsupportedOperationException();
+    }
+
+    static SourceOfRandomness randomnessFor(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        return new SourceOfRandomness(
+            new Random(
+                parameters.stream()
+                    .mapToLong(p -> p.effectiveSeed())
+                    .reduce(0, (a, b) -> 31 * a + b)));
+    }
+
+    static int[][] choicesOf(List<SeededValue> tuple) {
+        return tuple.stream().allMatch(v -> v.choices() != null)
+            ? tuple.stream().map(SeededValue::choices).toArray(int[][]::new)
+            : null;
+    }
+
+    static List<SeededValue> mutant(
+        List<PropertyParameterGenerationContext> parameters,
+        int[][] parent,
+        SourceOfRandomness random) {
+
+        int[][] choices = parent.clone();
+        int index = random.nextInt(choices.length);
+        choices[index] = mutate(choices[index], random);
+
+        List<SeededValue> tuple = new ArrayList<>();
+        for (int i = 0; i < choices.length; ++i) {
+            PropertyParameterGenerationContext p = parameters.get(i);
+            Replay replay = p.replay(choices[i], p.trial());
+            if (replay == null)
+                return null;
+
+            tuple.add(new SeededValue(p, replay));
+        }
+
+        return tuple;
+    }
+
+    private static int[] mutate(int[] choices, SourceOfRandomness random) {
+        int[] mutated = choices;
+        for (int i = random.nextInt(1, MAX_MUTATIONS); i > 0; --i) {
+            if (mutated.length == 0) {
+                mutated = new int[] { random.nextInt() };
+                continue;
+            }
+
+            int position = random.nextInt(mutated.length);
+            switch (random.nextInt(4)) {
+                case 0:
+                    mutated = mutated.clone();
+                    mutated[position] = random.nextInt();
+                    break;
+                case 1:
+                    mutated = mutated.clone();
+                    mutated[position] += random.nextInt(-8, 8);
+                    break;
+                case 2:
+                    mutated = without(mutated, position);
+                    break;
+                default:
+                    mutated = withCopy(mutated, position);
+                    break;
+            }
+        }
+
+        return mutated;
+    }
+
+    private static int[] without(int[] choices, int position) {
+        int[] shorter = Arrays.copyOf(choices, choices.length - 1);
+        System.arraycopy(
+            choices,
+            position + 1,
+            shorter,
+            position,
+            choices.length - position - 1);
+        return shorter;
+    }
+
+    private static int[] withCopy(int[] choices, int position) {
+        int[] longer = new int[choices.length + 1];
+        System.arraycopy(choices, 0, longer, 0, position + 1);
+        System.arraycopy(
+            choices,
+            position,
+            longer,
+            position + 1,
+            choices.length - position);
+        return longer;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.internal.CoveringArray;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Verifies a tuple of arguments for each row of a {@link CoveringArray}
+ * over the parameters with finite domains, such as booleans, enums, and
+ * parameters marked with {@link com.pholser.junit.quickcheck.generator.Only},
+ * giving the other parameters random values. With no such parameters,
+ * verifies a given number of tuples of random values.
+ */
+public class CoveringArrayParameterSampler
+    extends ExhaustiveParameterSampler {
+
+    private final int trials;
+    private final int strength;
+
+    public CoveringArrayParameterSampler(int trials, int strength) {
+        super(trials);
+
+        this.trials = trials;
+        this.strength = strength;
+    }
+
+    @Override public Stream<List<SeededValue>> sample(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        List<List<Object>> domains =
+            parameters.stream()
+                .map(PropertyParameterGenerationContext::finiteDomain)
+                .collect(toList());
+        int[] radices =
+            domains.stream()
+                .filter(d -> d != null)
+                .mapToInt(List::size)
+                .toArray();
+
+        if (radices.length == 0) {
+            return Stream.generate(
+                () -> parameters.stream()
+                    .map(SeededValue::new)
+                    .collect(toList()))
+                .limit(trials);
+        }
+
+        long seed = 0;
+        for (int i = 0; i < parameters.size(); ++i) {
+            if (domains.get(i) != null)
+                seed = seed * 31 + parameters.get(i).effectiveSeed();
+        }
+        CoveringArray array =
+            new CoveringArray(radices, strength, new Random(seed));
+
+        return array.rows().stream().map(row -> {
+            List<SeededValue> tuple = new ArrayList<>();
+            int column = 0;
+            for (int i = 0; i < parameters.size(); ++i) {
+                PropertyParameterGenerationContext p = parameters.get(i);
+                List<Object> domain = domains.get(i);
+                tuple.add(
+                    domain == null
+                        ? new SeededValue(p)
+                        : new SeededValue(p, domain.get(row[column++])));
+            }
+            return tuple;
+        });
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.singletonList;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.internal.CartesianEnumerator;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Verifies every tuple of the values that the parameters' generators
+ * {@linkplain com.pholser.junit.quickcheck.generator.Generator#enumerate(int)
+ * enumerate}, in increasing order of the greatest size of a value in the
+ * tuple, up to a given number of tuples and a given size. A parameter
+ * whose generator cannot enumerate its values gets one new random value
+ * for each size instead.
+ */
+public class EnumerativeParameterSampler extends ExhaustiveParameterSampler {
+    private final int bound;
+
+    public EnumerativeParameterSampler(int bound) {
+        super(bound);
+
+        this.bound = bound;
+    }
+
+    @Override public Stream<List<SeededValue>> sample(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(new BySize(parameters), ORDERED | NONNULL),
+            false)
+            .limit(bound);
+    }
+
+    private static List<SeededValue> valuesOfSize(
+        PropertyParameterGenerationContext p,
+        int size) {
+
+        return p.canEnumerate()
+            ? p.enumerate(size)
+                .map(v -> new SeededValue(p, v))
+                .collect(toList())
+            : singletonList(new SeededValue(p));
+    }
+
+    private final class BySize implements Iterator<List<SeededValue>> {
+        private final List<PropertyParameterGenerationContext> parameters;
+        private final List<List<SeededValue>> smaller = new ArrayList<>();
+        private final Deque<Iterator<List<SeededValue>>> pending =
+            new ArrayDeque<>();
+
+        private Iterator<List<SeededValue>> current = emptyIterator();
+        private int size = -1;
+
+        BySize(List<PropertyParameterGenerationContext> parameters) {
+            this.parameters = parameters;
+
+            for (int i = 0; i < parameters.size(); ++i)
+                smaller.add(new ArrayList<>());
+        }
+
+        @Override public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (!pending.isEmpty())
+                    current = pending.removeFirst();
+                else if (size < bound && !parameters.isEmpty())
+                    nextSize();
+                else
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override public List<SeededValue> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return current.next();
+        }
+
+        /*
+         * The tuples whose greatest size is the next size are those whose
+         * first value of that size is at some position i, so that the
+         * values before i are smaller and the values after i are no larger.
+         */
+        private void nextSize() {
+            ++size;
+
+            List<List<SeededValue>> exact = new ArrayList<>();
+            List<List<SeededValue>> noLarger = new ArrayList<>();
+            for (int i = 0; i < parameters.size(); ++i) {
+                List<SeededValue> values =
+                    valuesOfSize(parameters.get(i), size);
+                exact.add(values);
+
+                List<SeededValue> upTo = new ArrayList<>(smaller.get(i));
+                upTo.addAll(values);
+                noLarger.add(upTo);
+            }
+
+            for (int i = 0; i < parameters.size(); ++i) {
+                if (exact.get(i).isEmpty())
+                    continue;
+
+                List<List<SeededValue>> domains = new ArrayList<>();
+                domains.addAll(smaller.subList(0, i));
+                domains.add(exact.get(i));
+                domains.addAll(noLarger.subList(i + 1, parameters.size()));
+                pending.addLast(
+                    Spliterators.iterator(
+                        new CartesianEnumerator<>(domains).spliterator()));
+            }
+
+            for (int i = 0; i < parameters.size(); ++i)
+                smaller.set(i, noLarger.get(i));
+        }
+    }
+}
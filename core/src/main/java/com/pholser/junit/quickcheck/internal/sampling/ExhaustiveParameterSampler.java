@@ -37,7 +37,7 @@ import com.pholser.junit.quickcheck.conversion.StringConversion;
 import com.pholser.junit.quickcheck.generator.Also;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Only;
-import com.pholser.junit.quickcheck.internal.CartesianIterator;
+import com.pholser.junit.quickcheck.internal.CartesianEnumerator;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
 import com.pholser.junit.quickcheck.internal.SeededValue;
@@ -49,7 +49,6 @@ import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerati
 import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -88,15 +87,17 @@ public class ExhaustiveParameterSampler implements ParameterSampler {
     public Stream<List<SeededValue>> sample(
         List<PropertyParameterGenerationContext> parameters) {
 
-        List<Iterator<SeededValue>> sources =
+        List<List<SeededValue>> domains =
             parameters.stream()
                 .map(p ->
                     Stream.generate(() -> new SeededValue(p))
                         .limit(p.sampleSize())
-                        .iterator())
+                        .collect(toList()))
                 .collect(toList());
 
-        return cartesian(sources);
+        return StreamSupport.stream(
+            new CartesianEnumerator<>(domains).spliterator(),
+            false);
     }
 
     @Override public Generator<?> decideGenerator(
@@ -136,9 +137,4 @@ public class ExhaustiveParameterSampler implements ParameterSampler {
 
         return repository.produceGenerator(p);
     }
-
-    private <T> Stream<List<T>> cartesian(List<Iterator<T>> sources) {
-        Iterable<List<T>> cartesian = () -> new CartesianIterator<>(sources);
-        return StreamSupport.stream(cartesian.spliterator(), false);
-    }
 }
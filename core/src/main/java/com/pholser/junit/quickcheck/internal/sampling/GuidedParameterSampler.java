@@ -0,0 +1,156 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.Coverage;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ParameterSampler;
+import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class GuidedParameterSampler implements ParameterSampler {
+    private final TupleParameterSampler sampling;
+    private final long trials;
+    private final Coverage coverage;
+
+    public GuidedParameterSampler(int trials) {
+        this(trials, trials, providedCoverage());
+    }
+
+    public GuidedParameterSampler(
+        int sizeFactor,
+        long trials,
+        Coverage coverage) {
+
+        this.sampling = new TupleParameterSampler(sizeFactor, trials);
+        this.trials = trials;
+        this.coverage = coverage;
+    }
+
+    public static Coverage providedCoverage() {
+        Iterator<Coverage> providers =
+            ServiceLoader.load(Coverage.class).iterator();
+        if (!providers.hasNext()) {
+            throw new IllegalStateException(
+                "Guided mode needs an implementation of "
+                    + Coverage.class.getName()
+                    + " available via java.util.ServiceLoader,"
+                    + " such as the one in junit-quickcheck-guided");
+        }
+
+        return providers.next();
+    }
+
+    @Override public int sizeFactor(ParameterTypeContext p) {
+        return sampling.sizeFactor(p);
+    }
+
+    @Override public Stream<List<SeededValue>> sample(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(new Tuples(parameters), ORDERED),
+            false)
+            .limit(trials);
+    }
+
+    @Override public Generator<?> decideGenerator(
+        GeneratorRepository repository,
+        ParameterTypeContext p) {
+
+        return sampling.decideGenerator(repository, p);
+    }
+
+    private final class Tuples implements Iterator<List<SeededValue>> {
+        private final List<PropertyParameterGenerationContext> parameters;
+        private final SourceOfRandomness random;
+        private final List<int[][]> corpus = new ArrayList<>();
+        private final BitSet reached = new BitSet();
+
+        private List<SeededValue> previous;
+
+        Tuples(List<PropertyParameterGenerationContext> parameters) {
+            this.parameters = parameters;
+            this.random = ChoiceMutations.randomnessFor(parameters);
+        }
+
+        @Override public boolean hasNext() {
+            return true;
+        }
+
+        @Override public List<SeededValue> next() {
+            // The previous tuple's verification has finished by the time
+            // the next tuple is asked for.
+            if (previous != null)
+                keepIfReachedNewCode(previous);
+
+            coverage.reset();
+
+            List<SeededValue> next = null;
+            if (!corpus.isEmpty() && random.nextInt(4) != 0) {
+                next =
+                    ChoiceMutations.mutant(
+                        parameters,
+                        corpus.get(random.nextInt(corpus.size())),
+                        random);
+            }
+            if (next == null) {
+                next = parameters.stream()
+                    .map(SeededValue::new)
+                    .collect(toList());
+            }
+
+            previous = next;
+            return next;
+        }
+
+        private void keepIfReachedNewCode(List<SeededValue> tuple) {
+            BitSet covered = coverage.covered();
+            covered.andNot(reached);
+            if (covered.isEmpty())
+                return;
+
+            reached.or(covered);
+            int[][] choices = ChoiceMutations.choicesOf(tuple);
+            if (choices != null)
+                corpus.add(choices);
+        }
+    }
+}
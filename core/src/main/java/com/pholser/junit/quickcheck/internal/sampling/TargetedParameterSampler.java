@@ -0,0 +1,170 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.sampling;
+
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.Target;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ParameterSampler;
+import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class TargetedParameterSampler implements ParameterSampler {
+    private static final int EXPLORATION_FRACTION = 10;
+    private static final int RESTART_ODDS = 16;
+    private static final double INITIAL_TEMPERATURE = 0.1;
+
+    private final TupleParameterSampler sampling;
+    private final long trials;
+
+    public TargetedParameterSampler(int trials) {
+        this(trials, trials);
+    }
+
+    public TargetedParameterSampler(int sizeFactor, long trials) {
+        this.sampling = new TupleParameterSampler(sizeFactor, trials);
+        this.trials = trials;
+    }
+
+    @Override public int sizeFactor(ParameterTypeContext p) {
+        return sampling.sizeFactor(p);
+    }
+
+    @Override public Stream<List<SeededValue>> sample(
+        List<PropertyParameterGenerationContext> parameters) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(new Tuples(parameters), ORDERED),
+            false)
+            .limit(trials);
+    }
+
+    @Override public Generator<?> decideGenerator(
+        GeneratorRepository repository,
+        ParameterTypeContext p) {
+
+        return sampling.decideGenerator(repository, p);
+    }
+
+    private final class Tuples implements Iterator<List<SeededValue>> {
+        private final List<PropertyParameterGenerationContext> parameters;
+        private final SourceOfRandomness random;
+        private final long exploration;
+
+        private long produced;
+        private List<SeededValue> previous;
+        private int[][] current;
+        private double currentScore = Double.NEGATIVE_INFINITY;
+
+        Tuples(List<PropertyParameterGenerationContext> parameters) {
+            this.parameters = parameters;
+            this.random = ChoiceMutations.randomnessFor(parameters);
+            this.exploration = Math.max(1, trials / EXPLORATION_FRACTION);
+        }
+
+        @Override public boolean hasNext() {
+            return true;
+        }
+
+        @Override public List<SeededValue> next() {
+            // The previous tuple's verification has finished by the time
+            // the next tuple is asked for.
+            if (previous != null)
+                consider(previous);
+
+            List<SeededValue> next = null;
+            if (current != null
+                && produced >= exploration
+                && random.nextInt(RESTART_ODDS) != 0) {
+
+                next = ChoiceMutations.mutant(parameters, current, random);
+            }
+            if (next == null) {
+                next = parameters.stream()
+                    .map(SeededValue::new)
+                    .collect(toList());
+            }
+
+            ++produced;
+            previous = next;
+            return next;
+        }
+
+        private void consider(List<SeededValue> tuple) {
+            double score = scoreOf(tuple);
+            int[][] choices = ChoiceMutations.choicesOf(tuple);
+            if (choices != null && (current == null || accepts(score))) {
+                current = choices;
+                currentScore = score;
+            }
+        }
+
+        private boolean accepts(double score) {
+            if (score >= currentScore)
+                return true;
+            if (produced <= exploration)
+                return false;
+
+            // Simulated annealing: accept a worse tuple with a probability
+            // that shrinks with how much worse it is, relative to the current
+            // score, and with how few trials remain.
+            double temperature =
+                INITIAL_TEMPERATURE * (1 - (double) produced / trials);
+            double scale = Math.abs(currentScore) + 1;
+            return temperature > 0
+                && random.nextDouble()
+                    < Math.exp((score - currentScore) / (scale * temperature));
+        }
+
+        private double scoreOf(List<SeededValue> tuple) {
+            double score = Double.NEGATIVE_INFINITY;
+            boolean targeted = false;
+            for (SeededValue each : tuple) {
+                if (each.value() instanceof Target) {
+                    targeted = true;
+                    score = Math.max(score, ((Target) each.value()).observed());
+                }
+            }
+
+            if (!targeted) {
+                throw new IllegalStateException(
+                    "Targeted mode needs a property parameter of type "
+                        + Target.class.getName());
+            }
+            return score;
+        }
+    }
+}
@@ -47,14 +47,20 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 public class TupleParameterSampler implements ParameterSampler {
-    private final int trials;
+    private final int sizeFactor;
+    private final long trials;
 
     public TupleParameterSampler(int trials) {
+        this(trials, trials);
+    }
+
+    public TupleParameterSampler(int sizeFactor, long trials) {
+        this.sizeFactor = sizeFactor;
         this.trials = trials;
     }
 
     @Override public int sizeFactor(ParameterTypeContext p) {
-        return trials;
+        return sizeFactor;
     }
 
     @Override public Stream<List<SeededValue>> sample(
@@ -0,0 +1,156 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import com.pholser.junit.quickcheck.Isolated;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.RunnerScheduler;
+
+class ConcurrentScheduler implements RunnerScheduler {
+    private final int threads;
+    private final ReadWriteLock isolation = new ReentrantReadWriteLock(true);
+    private final ThreadLocal<Recording> current = new ThreadLocal<>();
+    private final List<Recording> recordings = new ArrayList<>();
+    private final List<Future<?>> children = new ArrayList<>();
+
+    private ExecutorService pool;
+
+    ConcurrentScheduler(int threads) {
+        this.threads =
+            threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override public void schedule(Runnable childStatement) {
+        if (pool == null)
+            pool = Executors.newFixedThreadPool(threads);
+
+        Recording recording = new Recording();
+        recordings.add(recording);
+        children.add(pool.submit(() -> {
+            current.set(recording);
+            try {
+                childStatement.run();
+            } finally {
+                current.remove();
+            }
+        }));
+    }
+
+    void runChild(
+        FrameworkMethod method,
+        RunNotifier notifier,
+        BiConsumer<FrameworkMethod, RunNotifier> child) {
+
+        Recording recording = current.get();
+        if (recording == null) {
+            child.accept(method, notifier);
+            return;
+        }
+
+        Lock lock =
+            method.getAnnotation(Isolated.class) == null
+                ? isolation.readLock()
+                : isolation.writeLock();
+        lock.lock();
+        try {
+            child.accept(method, recording.into(notifier));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override public void finished() {
+        try {
+            for (Future<?> each : children)
+                each.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (pool != null)
+                pool.shutdownNow();
+            pool = null;
+            children.clear();
+
+            recordings.forEach(Recording::replay);
+            recordings.clear();
+        }
+    }
+
+    private static final class Recording extends RunListener {
+        private final List<Consumer<RunNotifier>> events = new ArrayList<>();
+        private RunNotifier target;
+
+        RunNotifier into(RunNotifier target) {
+            this.target = target;
+
+            RunNotifier recorder = new RunNotifier();
+            recorder.addListener(this);
+            return recorder;
+        }
+
+        void replay() {
+            if (target != null)
+                events.forEach(e -> e.accept(target));
+        }
+
+        @Override public void testStarted(Description description) {
+            events.add(n -> n.fireTestStarted(description));
+        }
+
+        @Override public void testFinished(Description description) {
+            events.add(n -> n.fireTestFinished(description));
+        }
+
+        @Override public void testFailure(Failure failure) {
+            events.add(n -> n.fireTestFailure(failure));
+        }
+
+        @Override public void testAssumptionFailure(Failure failure) {
+            events.add(n -> n.fireTestAssumptionFailed(failure));
+        }
+
+        @Override public void testIgnored(Description description) {
+            events.add(n -> n.fireTestIgnored(description));
+        }
+    }
+}
@@ -25,6 +25,11 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+
+import com.pholser.junit.quickcheck.AfterTrial;
+import com.pholser.junit.quickcheck.BeforeTrial;
+import com.pholser.junit.quickcheck.ConcurrentProperties;
 import com.pholser.junit.quickcheck.Property;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
@@ -34,10 +39,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import org.junit.Test;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,11 +61,26 @@ import org.slf4j.LoggerFactory;
  * {@link org.junit.AfterClass}. Their execution is wrapped around the
  * verification of a property or execution of a test in the expected
  * order.</p>
+ *
+ * <p>It also honors {@link com.pholser.junit.quickcheck.BeforeTrial} and
+ * {@link com.pholser.junit.quickcheck.AfterTrial}, whose execution is
+ * wrapped around every individual trial of a property. Whether rules and
+ * {@code @Before}/{@code @After} methods wrap each trial or the property as
+ * a whole depends on the property's
+ * {@linkplain com.pholser.junit.quickcheck.Property#lifecycle() lifecycle}.
+ * </p>
+ *
+ * <p>A class marked with
+ * {@link com.pholser.junit.quickcheck.ConcurrentProperties} has its
+ * properties and tests run concurrently, with results reported in the
+ * usual order once they have all finished.</p>
  */
 public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
     private final GeneratorRepository repo;
     private final GeometricDistribution distro;
     private final Logger logger;
+    private final ConcurrentScheduler scheduler;
+    private final TestClass trialClass;
 
     /**
      * Invoked reflectively by JUnit.
@@ -76,10 +98,25 @@ public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
                 .register(new ServiceLoaderGeneratorSource());
         distro = new GeometricDistribution();
         logger = LoggerFactory.getLogger("junit-quickcheck.value-reporting");
+
+        ConcurrentProperties concurrent =
+            getTestClass().getAnnotation(ConcurrentProperties.class);
+        scheduler =
+            concurrent == null
+                ? null
+                : new ConcurrentScheduler(concurrent.threads());
+        if (scheduler != null)
+            setScheduler(scheduler);
+
+        // Trials see the class's own fixtures, as plain JUnit finds them;
+        // scanned once here rather than for every property verified.
+        trialClass = new TestClass(clazz);
     }
 
     @Override protected void validateTestMethods(List<Throwable> errors) {
         validatePublicVoidNoArgMethods(Test.class, false, errors);
+        validatePublicVoidNoArgMethods(BeforeTrial.class, false, errors);
+        validatePublicVoidNoArgMethods(AfterTrial.class, false, errors);
         validatePropertyMethods(errors);
     }
 
@@ -95,14 +132,45 @@ public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
         return methods;
     }
 
+    @Override protected void runChild(
+        FrameworkMethod method,
+        RunNotifier notifier) {
+
+        if (scheduler == null) {
+            super.runChild(method, notifier);
+        } else {
+            scheduler.runChild(
+                method,
+                notifier,
+                (m, n) -> super.runChild(m, n));
+        }
+    }
+
     @Override public Statement methodBlock(FrameworkMethod method) {
         return method.getAnnotation(Test.class) != null
+            || method.getAnnotation(Property.class).lifecycle() == PER_PROPERTY
             ? super.methodBlock(method)
             : new PropertyStatement(
                 method,
-                getTestClass(),
+                trialClass,
+                repo,
+                distro,
+                null,
+                logger);
+    }
+
+    @Override protected Statement methodInvoker(
+        FrameworkMethod method,
+        Object test) {
+
+        return method.getAnnotation(Test.class) != null
+            ? super.methodInvoker(method, test)
+            : new PropertyStatement(
+                method,
+                trialClass,
                 repo,
                 distro,
+                test,
                 logger);
     }
 }
@@ -38,11 +38,13 @@ final class PropertyFalsified {
         String propertyName,
         Object[] args,
         long[] seeds,
+        long trial,
+        long[] trialSeeds,
         AssertionError e) {
 
         String template = "Property named '%s' failed%s%n"
             + "With arguments: %s%n"
-            + "Seeds for reproduction: %s";
+            + "Seeds for reproduction: %s%s";
         String assertionErrorMessage =
             e.getMessage() == null
                 ? ":"
@@ -54,7 +56,8 @@ final class PropertyFalsified {
                 propertyName,
                 assertionErrorMessage,
                 Arrays.deepToString(args),
-                Arrays.toString(seeds)),
+                Arrays.toString(seeds),
+                trialSegment(trial, trialSeeds)),
             e);
     }
 
@@ -63,6 +66,8 @@ final class PropertyFalsified {
         Object[] originalArgs,
         Object[] args,
         long[] seeds,
+        long trial,
+        long[] trialSeeds,
         AssertionError smallerFailure,
         AssertionError originalFailure) {
 
@@ -82,7 +87,7 @@ final class PropertyFalsified {
                 + "With arguments: %s%n"
                 + "%s"
                 + "First arguments found to also provoke a failure: %s%n"
-                + "Seeds for reproduction: %s";
+                + "Seeds for reproduction: %s%s";
 
         AssertionError e =
             new AssertionError(
@@ -93,9 +98,19 @@ final class PropertyFalsified {
                     Arrays.deepToString(args),
                     originalFailureMessageSegment,
                     Arrays.deepToString(originalArgs),
-                    Arrays.toString(seeds)),
+                    Arrays.toString(seeds),
+                    trialSegment(trial, trialSeeds)),
                 originalFailure);
         e.setStackTrace(smallerFailure.getStackTrace());
         return e;
     }
+
+    private static String trialSegment(long trial, long[] trialSeeds) {
+        return trial < 0
+            ? ""
+            : format(
+                "%nTrial for reproduction: %d, with trial seeds %s",
+                trial,
+                Arrays.toString(trialSeeds));
+    }
 }
@@ -25,30 +25,56 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static com.pholser.junit.quickcheck.Mode.GUIDED;
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static com.pholser.junit.quickcheck.Mode.TARGETED;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
+import static java.util.Collections.synchronizedList;
+import static java.util.Comparator.comparingLong;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.TrialExecutor;
+import com.pholser.junit.quickcheck.internal.Choices;
+import com.pholser.junit.quickcheck.internal.CounterexampleDatabase;
+import com.pholser.junit.quickcheck.internal.CounterexampleDatabase.Entry;
+import com.pholser.junit.quickcheck.internal.Durations;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
+import com.pholser.junit.quickcheck.internal.Pipeline;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
 import com.pholser.junit.quickcheck.internal.SeededValue;
 import com.pholser.junit.quickcheck.internal.ShrinkControl;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
+import com.pholser.junit.quickcheck.internal.sampling.BoundaryParameterSampler;
+import com.pholser.junit.quickcheck.internal.sampling.CoveringArrayParameterSampler;
+import com.pholser.junit.quickcheck.internal.sampling.EnumerativeParameterSampler;
 import com.pholser.junit.quickcheck.internal.sampling.ExhaustiveParameterSampler;
+import com.pholser.junit.quickcheck.internal.sampling.GuidedParameterSampler;
+import com.pholser.junit.quickcheck.internal.sampling.TargetedParameterSampler;
 import com.pholser.junit.quickcheck.internal.sampling.TupleParameterSampler;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Stream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 import org.junit.internal.AssumptionViolatedException;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
 import org.junit.runners.model.TestClass;
 import org.slf4j.Logger;
@@ -56,67 +82,383 @@ import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.MethodGenericsContext;
 
 class PropertyStatement extends Statement {
+    static final String DURATION_OVERRIDE = "junit-quickcheck.duration";
+
     private final FrameworkMethod method;
+    private final Property marker;
     private final TestClass testClass;
     private final GeneratorRepository repo;
     private final GeometricDistribution distro;
+    private final Object instance;
     private final List<AssumptionViolatedException> assumptionViolations;
     private final Logger logger;
-
-    private int successes;
+    private final AtomicInteger successes;
 
     PropertyStatement(
         FrameworkMethod method,
         TestClass testClass,
         GeneratorRepository repo,
         GeometricDistribution distro,
+        Object instance,
         Logger logger) {
 
         this.method = method;
+        this.marker = method.getAnnotation(Property.class);
         this.testClass = testClass;
         this.repo = repo;
         this.distro = distro;
-        assumptionViolations = new ArrayList<>();
+        this.instance = instance;
+        assumptionViolations = synchronizedList(new ArrayList<>());
         this.logger = logger;
+        successes = new AtomicInteger();
     }
 
     @Override public void evaluate() throws Throwable {
-        Property marker = method.getAnnotation(Property.class);
-        ParameterSampler sampler = sampler(marker);
+        String key = testClass.getName() + '#' + method.getName();
+        TrialReplay replay =
+            marker.mode() == SAMPLING
+                ? TrialReplay.of(
+                    marker,
+                    key,
+                    method.getMethod().getParameterCount())
+                : null;
+        Duration budget = replay == null ? budget() : Duration.ZERO;
+        long trials =
+            replay != null
+                ? 1
+                : budget.isZero() ? marker.trials() : Long.MAX_VALUE;
+        ParameterSampler sampler = sampler(trials);
         ShrinkControl shrinkControl = new ShrinkControl(marker);
+        PropertyVerifier verifier =
+            new PropertyVerifier(testClass, method, instance);
 
         MethodGenericsContext generics =
             GenericsResolver.resolve(testClass.getJavaClass())
                 .method(method.getMethod());
-        List<PropertyParameterGenerationContext> paramContexts =
+        List<PropertyParameterContext> parameters =
             Arrays.stream(method.getMethod().getParameters())
                 .map(p -> parameterContextFor(p, generics))
-                .map(p -> new PropertyParameterGenerationContext(
-                    p,
-                    repo,
-                    distro,
-                    new SourceOfRandomness(new Random()),
-                    sampler
-                ))
                 .collect(toList());
+        long[] masters =
+            replay != null && replay.seeds() != null
+                ? replay.seeds()
+                : new Random().longs(parameters.size()).toArray();
+
+        BooleanSupplier expired =
+            budget.isZero() ? () -> false : expiresAfter(budget);
+        CounterexampleDatabase database =
+            marker.mode() == SAMPLING && replay == null
+                ? CounterexampleDatabase.configured()
+                : null;
+
+        Counterexample counterexample =
+            database == null
+                ? null
+                : verifyKnown(database, key, verifier, parameters);
+        if (counterexample == null) {
+            if (marker.mode() == SAMPLING
+                && marker.parallelism() > 1
+                && replay == null) {
+
+                counterexample =
+                    verifyInParallel(
+                        verifier,
+                        parameters,
+                        masters,
+                        sampler,
+                        trials,
+                        marker.parallelism(),
+                        shrinkControl.executor(),
+                        marker.lookahead(),
+                        expired);
+            } else if (marker.mode() == EXHAUSTIVE
+                && marker.parallelism() > 1) {
+
+                counterexample =
+                    verifyExhaustivelyInParallel(
+                        verifier,
+                        parameters,
+                        masters,
+                        sampler,
+                        marker.parallelism(),
+                        shrinkControl.executor(),
+                        marker.lookahead());
+            } else {
+                counterexample =
+                    verify(
+                        verifier,
+                        sampler.sample(
+                            generationContexts(
+                                parameters,
+                                masters,
+                                sampler,
+                                replay == null ? 0 : replay.trial(),
+                                1))
+                            .iterator(),
+                        expired,
+                        feedsBack() ? 0 : marker.lookahead());
+            }
+        }
+        if (database != null
+            && counterexample != null
+            && counterexample.entry() != null) {
 
-        Stream<List<SeededValue>> sample = sampler.sample(paramContexts);
-        for (List<SeededValue> args :
-                (Iterable<List<SeededValue>>) sample::iterator) {
+            database.record(key, counterexample.entry());
+        }
 
-            property(args, shrinkControl).verify();
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                "Verified property {} from {} in {} trials",
+                method.getName(),
+                testClass.getName(),
+                trialsVerified() + (counterexample == null ? 0 : 1));
         }
 
-        if (successes == 0 && !assumptionViolations.isEmpty()) {
+        if (counterexample != null)
+            counterexample.report(verifier, shrinkControl);
+
+        if (successes.get() == 0 && !assumptionViolations.isEmpty()) {
             throw new NoValuesSatisfiedPropertyAssumptions(
                 assumptionViolations);
         }
     }
 
-    private PropertyVerifier property(
-        List<SeededValue> arguments,
-        ShrinkControl shrinkControl)
-        throws InitializationError {
+    private Counterexample verifyKnown(
+        CounterexampleDatabase database,
+        String key,
+        PropertyVerifier verifier,
+        List<PropertyParameterContext> parameters)
+        throws Throwable {
+
+        ParameterSampler once = new TupleParameterSampler(marker.trials(), 1);
+
+        for (Entry known : database.entriesFor(key)) {
+            Counterexample counterexample =
+                known.seeds().length == parameters.size()
+                    ? verify(
+                        verifier,
+                        once.sample(
+                            generationContexts(
+                                parameters,
+                                known.seeds(),
+                                once,
+                                known.trial(),
+                                1))
+                            .iterator(),
+                        () -> false)
+                    : null;
+            if (counterexample != null)
+                return counterexample;
+
+            database.remove(key, known);
+        }
+
+        return null;
+    }
+
+    private Duration budget() {
+        if (marker.mode() != SAMPLING)
+            return Duration.ZERO;
+
+        String override = System.getProperty(DURATION_OVERRIDE);
+        Duration budget =
+            Durations.parse(override == null ? marker.duration() : override);
+        return budget.isNegative() ? Duration.ZERO : budget;
+    }
+
+    private BooleanSupplier expiresAfter(Duration budget) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        return () -> trialsVerified() > 0 && System.nanoTime() - deadline > 0;
+    }
+
+    private int trialsVerified() {
+        return successes.get() + assumptionViolations.size();
+    }
+
+    private List<PropertyParameterGenerationContext> generationContexts(
+        List<PropertyParameterContext> parameters,
+        long[] masters,
+        ParameterSampler sampler,
+        long firstTrial,
+        long stride) {
+
+        return IntStream.range(0, parameters.size())
+            .mapToObj(i -> new PropertyParameterGenerationContext(
+                parameters.get(i),
+                repo,
+                distro,
+                seededWith(masters[i]),
+                sampler,
+                firstTrial,
+                stride
+            ))
+            .collect(toList());
+    }
+
+    private SourceOfRandomness seededWith(long seed) {
+        SourceOfRandomness random =
+            marker.integratedShrinking() || feedsBack()
+                ? Choices.recording()
+                : new SourceOfRandomness(new Random());
+        random.setSeed(seed);
+        return random;
+    }
+
+    private boolean feedsBack() {
+        return marker.mode() == GUIDED || marker.mode() == TARGETED;
+    }
+
+    private Counterexample verify(
+        PropertyVerifier verifier,
+        Iterator<List<SeededValue>> sample,
+        BooleanSupplier stopped,
+        int lookahead)
+        throws Throwable {
+
+        if (lookahead <= 0)
+            return verify(verifier, sample, stopped);
+
+        try (Pipeline<List<SeededValue>> pipelined =
+            new Pipeline<>(
+                sample,
+                lookahead,
+                "junit-quickcheck-sampler-" + method.getName())) {
+
+            return verify(verifier, pipelined, stopped);
+        }
+    }
+
+    private Counterexample verify(
+        PropertyVerifier verifier,
+        Iterator<List<SeededValue>> sample,
+        BooleanSupplier stopped)
+        throws Throwable {
+
+        while (!stopped.getAsBoolean() && sample.hasNext()) {
+            Counterexample counterexample = verify(verifier, sample.next());
+            if (counterexample != null)
+                return counterexample;
+        }
+
+        return null;
+    }
+
+    private Counterexample verifyInParallel(
+        PropertyVerifier verifier,
+        List<PropertyParameterContext> parameters,
+        long[] masters,
+        ParameterSampler sampler,
+        long trials,
+        int parallelism,
+        TrialExecutor executor,
+        int lookahead,
+        BooleanSupplier expired)
+        throws Throwable {
+
+        List<Iterator<List<SeededValue>>> samples = new ArrayList<>();
+        for (int i = 0; i < parallelism; ++i) {
+            long share =
+                trials / parallelism + (i < trials % parallelism ? 1 : 0);
+            samples.add(
+                sampler.sample(
+                    generationContexts(
+                        parameters,
+                        masters,
+                        sampler,
+                        i,
+                        parallelism))
+                    .limit(share)
+                    .iterator());
+        }
+
+        return verifyConcurrently(
+            verifier,
+            samples,
+            executor,
+            lookahead,
+            expired);
+    }
+
+    private Counterexample verifyExhaustivelyInParallel(
+        PropertyVerifier verifier,
+        List<PropertyParameterContext> parameters,
+        long[] masters,
+        ParameterSampler sampler,
+        int parallelism,
+        TrialExecutor executor,
+        int lookahead)
+        throws Throwable {
+
+        List<Spliterator<List<SeededValue>>> shares = new ArrayList<>();
+        shares.add(
+            sampler.sample(
+                generationContexts(parameters, masters, sampler, 0, 1))
+                .spliterator());
+        while (shares.size() < parallelism) {
+            Spliterator<List<SeededValue>> largest =
+                Collections.max(
+                    shares,
+                    comparingLong(Spliterator::estimateSize));
+            Spliterator<List<SeededValue>> prefix = largest.trySplit();
+            if (prefix == null)
+                break;
+            shares.add(prefix);
+        }
+
+        return verifyConcurrently(
+            verifier,
+            shares.stream().map(Spliterators::iterator).collect(toList()),
+            executor,
+            lookahead,
+            () -> false);
+    }
+
+    private Counterexample verifyConcurrently(
+        PropertyVerifier verifier,
+        List<Iterator<List<SeededValue>>> samples,
+        TrialExecutor executor,
+        int lookahead,
+        BooleanSupplier expired)
+        throws Throwable {
+
+        AtomicReference<Counterexample> first = new AtomicReference<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        BooleanSupplier stopped =
+            () -> first.get() != null
+                || error.get() != null
+                || expired.getAsBoolean();
+
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (Iterator<List<SeededValue>> sample : samples) {
+            workers.add(() -> {
+                try {
+                    Counterexample found =
+                        verify(verifier, sample, stopped, lookahead);
+                    if (found != null)
+                        first.compareAndSet(null, found);
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+                return null;
+            });
+        }
+
+        ExecutorService pool = executor.start(workers.size());
+        try {
+            pool.invokeAll(workers);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (error.get() != null)
+            throw error.get();
+        return first.get();
+    }
+
+    private Counterexample verify(
+        PropertyVerifier verifier,
+        List<SeededValue> arguments)
+        throws Throwable {
 
         if (logger.isDebugEnabled()) {
             logger.debug(
@@ -131,50 +473,38 @@ class PropertyStatement extends Statement {
         Object[] args = arguments.stream().map(SeededValue::value).toArray();
         long[] seeds =
             arguments.stream().mapToLong(SeededValue::seed).toArray();
+        long trial =
+            marker.mode() == SAMPLING && !arguments.isEmpty()
+                ? arguments.get(0).trial()
+                : -1;
+        long[] trialSeeds =
+            arguments.stream().mapToLong(SeededValue::trialSeed).toArray();
+        int[][] choices =
+            marker.integratedShrinking()
+                ? arguments.stream()
+                    .map(SeededValue::choices)
+                    .toArray(int[][]::new)
+                : new int[args.length][];
 
-        return new PropertyVerifier(
-            testClass,
-            method,
+        Counterexample[] counterexample = new Counterexample[1];
+        verifier.verify(
             args,
             seeds,
-            s -> ++successes,
+            s -> successes.incrementAndGet(),
             assumptionViolations::add,
-            (e, action) -> {
-                if (!shrinkControl.shouldShrink()) {
-                    shrinkControl.onMinimalCounterexample()
-                        .handle(args, action);
-                    throw counterexampleFound(
-                        method.getName(),
+            (e, action) ->
+                counterexample[0] =
+                    new Counterexample(
+                        params,
                         args,
                         seeds,
-                        e);
-                }
-
-                try {
-                    shrink(params, args, seeds, shrinkControl, e);
-                } catch (AssertionError ex) {
-                    throw ex;
-                } catch (Throwable ex) {
-                    throw new AssertionError(ex);
-                }
-            }
-        );
-    }
-
-    private void shrink(
-        List<PropertyParameterGenerationContext> params,
-        Object[] args,
-        long[] seeds,
-        ShrinkControl shrinkControl,
-        AssertionError failure)
-        throws Throwable {
+                        trial,
+                        trialSeeds,
+                        choices,
+                        e,
+                        action));
 
-        new Shrinker(
-            method,
-            testClass,
-            failure,
-            shrinkControl)
-            .shrink(params, args, seeds);
+        return counterexample[0];
     }
 
     private PropertyParameterContext parameterContextFor(
@@ -187,15 +517,102 @@ class PropertyStatement extends Statement {
         ).annotate(parameter);
     }
 
-    private ParameterSampler sampler(Property marker) {
+    private ParameterSampler sampler(long trials) {
         switch (marker.mode()) {
             case SAMPLING:
-                return new TupleParameterSampler(marker.trials());
+                return new TupleParameterSampler(marker.trials(), trials);
             case EXHAUSTIVE:
                 return new ExhaustiveParameterSampler(marker.trials());
+            case ENUMERATIVE:
+                return new EnumerativeParameterSampler(marker.trials());
+            case COVERING:
+                return new CoveringArrayParameterSampler(
+                    marker.trials(),
+                    marker.strength());
+            case BOUNDARY:
+                return new BoundaryParameterSampler(
+                    marker.trials(),
+                    marker.strength());
+            case GUIDED:
+                return new GuidedParameterSampler(marker.trials());
+            case TARGETED:
+                return new TargetedParameterSampler(marker.trials());
             default:
                 throw new AssertionError(
                     "Don't recognize mode " + marker.mode());
         }
     }
+
+    private final class Counterexample {
+        private final List<PropertyParameterGenerationContext> params;
+        private final Object[] args;
+        private final long[] seeds;
+        private final long trial;
+        private final long[] trialSeeds;
+        private final int[][] choices;
+        private final AssertionError failure;
+        private final Runnable repeat;
+
+        Counterexample(
+            List<PropertyParameterGenerationContext> params,
+            Object[] args,
+            long[] seeds,
+            long trial,
+            long[] trialSeeds,
+            int[][] choices,
+            AssertionError failure,
+            Runnable repeat) {
+
+            this.params = params;
+            this.args = args;
+            this.seeds = seeds;
+            this.trial = trial;
+            this.trialSeeds = trialSeeds;
+            this.choices = choices;
+            this.failure = failure;
+            this.repeat = repeat;
+        }
+
+        Entry entry() {
+            return trial < 0 ? null : new Entry(trial, seeds);
+        }
+
+        void report(PropertyVerifier verifier, ShrinkControl shrinkControl)
+            throws Throwable {
+
+            if (!shrinkControl.shouldShrink()) {
+                shrinkControl.onMinimalCounterexample().handle(args, repeat);
+                throw counterexampleFound(
+                    method.getName(),
+                    args,
+                    seeds,
+                    trial,
+                    trialSeeds,
+                    failure);
+            }
+
+            Shrinker shrinker =
+                new Shrinker(method, verifier, failure, shrinkControl);
+            try {
+                shrinker.shrink(
+                    params,
+                    args,
+                    seeds,
+                    trial,
+                    trialSeeds,
+                    choices);
+            } catch (AssertionError ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new AssertionError(ex);
+            } finally {
+                logger.debug(
+                    "Shrinking property {}: {} candidates verified, {}"
+                        + " duplicates skipped",
+                    method.getName(),
+                    shrinker.memoMisses(),
+                    shrinker.memoHits());
+            }
+        }
+    }
 }
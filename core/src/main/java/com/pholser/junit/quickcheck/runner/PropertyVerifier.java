@@ -25,11 +25,20 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import com.pholser.junit.quickcheck.AfterTrial;
+import com.pholser.junit.quickcheck.BeforeTrial;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.junit.internal.AssumptionViolatedException;
+import org.junit.internal.runners.statements.RunAfters;
+import org.junit.internal.runners.statements.RunBefores;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -38,58 +47,52 @@ import org.junit.runners.model.TestClass;
 
 class PropertyVerifier extends BlockJUnit4ClassRunner {
     private final FrameworkMethod method;
-    private final Object[] args;
-    private final long[] seeds;
-    private final Consumer<Void> onSuccess;
-    private final Consumer<AssumptionViolatedException> onAssumptionViolated;
-    private final BiConsumer<AssertionError, Runnable> onFailure;
-
-    PropertyVerifier(
-        TestClass clazz,
-        FrameworkMethod method,
-        Object[] args,
-        long[] seeds,
-        Consumer<Void> onSuccess,
-        Consumer<AssumptionViolatedException> onAssumptionViolated,
-        BiConsumer<AssertionError, Runnable> onFailure)
+    private final Object instance;
+    private final MethodHandle invoker;
+    private final List<FrameworkMethod> befores;
+    private final List<FrameworkMethod> afters;
+    private final ThreadLocal<Object[]> trialArgs;
+    private final Statement perProperty;
+
+    PropertyVerifier(TestClass clazz, FrameworkMethod method, Object instance)
         throws InitializationError {
 
-        super(clazz.getJavaClass());
+        super(clazz);
 
         this.method = method;
-        this.args = args;
-        this.seeds = seeds;
-        this.onSuccess = onSuccess;
-        this.onAssumptionViolated = onAssumptionViolated;
-        this.onFailure = onFailure;
+        this.instance = instance;
+        this.invoker = invokerFor(method.getMethod());
+        this.befores = clazz.getAnnotatedMethods(BeforeTrial.class);
+        this.afters = clazz.getAnnotatedMethods(AfterTrial.class);
+        this.trialArgs = new ThreadLocal<>();
+        this.perProperty =
+            instance == null ? null : methodInvoker(method, instance);
     }
 
-    void verify() throws Throwable {
-        methodBlock().evaluate();
-    }
-
-    private Statement methodBlock() {
-        Statement statement = super.methodBlock(method);
-        return new Statement() {
-            @Override public void evaluate() {
+    void verify(
+        Object[] args,
+        long[] seeds,
+        Consumer<Void> onSuccess,
+        Consumer<AssumptionViolatedException> onAssumptionViolated,
+        BiConsumer<AssertionError, Runnable> onFailure)
+        throws Throwable {
+
+        try {
+            evaluate(args);
+            onSuccess.accept(null);
+        } catch (AssumptionViolatedException e) {
+            onAssumptionViolated.accept(e);
+        } catch (AssertionError e) {
+            Runnable repeat = () -> {
                 try {
-                    statement.evaluate();
-                    onSuccess.accept(null);
-                } catch (AssumptionViolatedException e) {
-                    onAssumptionViolated.accept(e);
-                } catch (AssertionError e) {
-                    Runnable repeat = () -> {
-                        try {
-                            statement.evaluate();
-                        } catch (Throwable ignored) {
-                        }
-                    };
-                    onFailure.accept(e, repeat);
-                } catch (Throwable t) {
-                    reportErrorWithArguments(t);
+                    evaluate(args);
+                } catch (Throwable ignored) {
                 }
-            }
-        };
+            };
+            onFailure.accept(e, repeat);
+        } catch (Throwable t) {
+            reportErrorWithArguments(args, seeds, t);
+        }
     }
 
     @Override protected void collectInitializationErrors(
@@ -102,14 +105,48 @@ class PropertyVerifier extends BlockJUnit4ClassRunner {
         FrameworkMethod frameworkMethod,
         Object test) {
 
-        return new Statement() {
+        Statement invocation = new Statement() {
             @Override public void evaluate() throws Throwable {
-                frameworkMethod.invokeExplosively(test, args);
+                Object[] args = trialArgs.get();
+
+                if (invoker == null)
+                    frameworkMethod.invokeExplosively(test, args);
+                else
+                    invoker.invokeExact(test, args);
             }
         };
+        return withTrialHooks(invocation, test);
+    }
+
+    // A per-trial instance brings its own rules and fixtures, so its
+    // statement is built anew for each trial; a per-property instance's
+    // statement is built once, and only the arguments change.
+    private void evaluate(Object[] args) throws Throwable {
+        trialArgs.set(args);
+        try {
+            Statement statement =
+                instance == null ? methodBlock(method) : perProperty;
+            statement.evaluate();
+        } finally {
+            trialArgs.remove();
+        }
+    }
+
+    private Statement withTrialHooks(Statement statement, Object test) {
+        Statement withBefores =
+            befores.isEmpty()
+                ? statement
+                : new RunBefores(statement, befores, test);
+        return afters.isEmpty()
+            ? withBefores
+            : new RunAfters(withBefores, afters, test);
     }
 
-    private void reportErrorWithArguments(Throwable e) {
+    private void reportErrorWithArguments(
+        Object[] args,
+        long[] seeds,
+        Throwable e) {
+
         throw new AssertionError(
             String.format(
                 "Unexpected error in property %s with args %s and seeds %s",
@@ -118,4 +155,15 @@ class PropertyVerifier extends BlockJUnit4ClassRunner {
                 Arrays.toString(seeds)),
             e);
     }
+
+    private static MethodHandle invokerFor(Method method) {
+        try {
+            return MethodHandles.lookup()
+                .unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(methodType(void.class, Object.class, Object[].class));
+        } catch (IllegalAccessException inaccessible) {
+            return null;
+        }
+    }
 }
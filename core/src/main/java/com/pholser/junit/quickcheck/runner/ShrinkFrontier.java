@@ -0,0 +1,72 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+final class ShrinkFrontier {
+    private final int capacity;
+    private final TreeSet<Entry> entries;
+
+    private long sequence;
+
+    ShrinkFrontier(int capacity) {
+        this.capacity = Math.max(1, capacity);
+
+        // Greatest first: deeper nodes, then nodes whose args are of lesser
+        // magnitude, then nodes offered earlier.
+        Comparator<Entry> byNode =
+            (a, b) -> ShrinkNode.ORDER.compare(a.node, b.node);
+        Comparator<Entry> byAge =
+            (a, b) -> Long.compare(b.sequence, a.sequence);
+        this.entries = new TreeSet<>(byNode.thenComparing(byAge));
+    }
+
+    void offer(ShrinkNode node) {
+        entries.add(new Entry(node, sequence++));
+        if (entries.size() > capacity)
+            entries.pollFirst();
+    }
+
+    ShrinkNode poll() {
+        return entries.pollLast().node;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private static final class Entry {
+        final ShrinkNode node;
+        final long sequence;
+
+        Entry(ShrinkNode node, long sequence) {
+            this.node = node;
+            this.sequence = sequence;
+        }
+    }
+}
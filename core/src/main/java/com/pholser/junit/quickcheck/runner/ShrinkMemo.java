@@ -0,0 +1,105 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+final class ShrinkMemo {
+    static final int MAX_CAPACITY = 65_536;
+
+    private final Set<Fingerprint> visited;
+
+    private int hits;
+    private int misses;
+
+    ShrinkMemo(int maxShrinks) {
+        int bound = (int) Math.min(Math.max(maxShrinks, 0) + 1L, MAX_CAPACITY);
+
+        visited = Collections.newSetFromMap(
+            new LinkedHashMap<Fingerprint, Boolean>(16, 0.75F, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override protected boolean removeEldestEntry(
+                    Map.Entry<Fingerprint, Boolean> eldest) {
+
+                    return size() > bound;
+                }
+            });
+    }
+
+    void remember(Object[] args) {
+        visited.add(new Fingerprint(args));
+    }
+
+    boolean firstVisit(Object[] args) {
+        if (visited.add(new Fingerprint(args))) {
+            ++misses;
+            return true;
+        }
+
+        ++hits;
+        return false;
+    }
+
+    void forget(Object[] args) {
+        if (visited.remove(new Fingerprint(args)))
+            --misses;
+    }
+
+    int hits() {
+        return hits;
+    }
+
+    int misses() {
+        return misses;
+    }
+
+    private static final class Fingerprint {
+        private final Object[] args;
+        private final int hash;
+
+        Fingerprint(Object[] args) {
+            this.args = args.clone();
+            this.hash = Arrays.deepHashCode(this.args);
+        }
+
+        @Override public boolean equals(Object o) {
+            if (!(o instanceof Fingerprint))
+                return false;
+
+            Fingerprint other = (Fingerprint) o;
+            return hash == other.hash && Arrays.deepEquals(args, other.args);
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+}
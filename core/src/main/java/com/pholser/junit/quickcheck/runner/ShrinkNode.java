@@ -27,84 +27,134 @@ package com.pholser.junit.quickcheck.runner;
 
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.smallerCounterexampleFound;
-import static java.util.Comparator.comparing;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.emptyIterator;
+import static java.util.Comparator.comparingInt;
 
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
-import java.math.BigDecimal;
+import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext.Replay;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.stream.IntStream;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.InitializationError;
-import org.junit.runners.model.TestClass;
 
 final class ShrinkNode implements Comparable<ShrinkNode> {
+    // Nodes at lesser depth compare less than nodes of greater depth.
+    // Nodes at equal depth compare their args' magnitudes one by one,
+    // preferring larger-magnitude args before smaller.
+    static final Comparator<ShrinkNode> ORDER =
+        comparingInt(ShrinkNode::depth)
+            .thenComparing(ShrinkNode::compareMagnitudes);
+
+    // Of two failing nodes, the one whose args are of lesser magnitude, one
+    // by one, is the smaller counterexample; failing that, the deeper one.
+    static final Comparator<ShrinkNode> SMALLEST =
+        ((Comparator<ShrinkNode>) (first, second) ->
+            compareMagnitudes(second, first))
+            .thenComparing(comparingInt(ShrinkNode::depth).reversed());
+
     private final FrameworkMethod method;
-    private final TestClass testClass;
+    private final PropertyVerifier verifier;
     private final List<PropertyParameterGenerationContext> params;
     private final Object[] args;
     private final long[] seeds;
+    private final long trial;
+    private final long[] trialSeeds;
+    private final int[][] choices;
     private final int[] depths;
     private final int totalDepth;
-    private final BigDecimal totalMagnitude;
+
+    private double[] magnitudes;
 
     private AssertionError failure;
 
     private ShrinkNode(
         FrameworkMethod method,
-        TestClass testClass,
+        PropertyVerifier verifier,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        long trial,
+        long[] trialSeeds,
+        int[][] choices,
         int[] depths,
         AssertionError failure) {
 
         this.method = method;
-        this.testClass = testClass;
+        this.verifier = verifier;
         this.params = params;
         this.args = args;
         this.seeds = seeds;
+        this.trial = trial;
+        this.trialSeeds = trialSeeds;
+        this.choices = choices;
         this.depths = depths;
         this.totalDepth = IntStream.of(depths).sum();
-        this.totalMagnitude = computeTotalMagnitude();
 
         this.failure = failure;
     }
 
     static ShrinkNode root(
         FrameworkMethod method,
-        TestClass testClass,
+        PropertyVerifier verifier,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        long trial,
+        long[] trialSeeds,
+        int[][] choices,
         AssertionError failure) {
 
         return new ShrinkNode(
             method,
-            testClass,
+            verifier,
             params,
             args,
             seeds,
+            trial,
+            trialSeeds,
+            choices,
             new int[args.length],
             failure);
     }
 
-    List<ShrinkNode> shrinks() {
-        return IntStream.range(0, params.size())
-            .mapToObj(i -> params.get(i).shrink(args[i]).stream()
-                .filter(o -> !o.equals(args[i]))
-                .map(o -> shrinkNodeFor(o, i)))
-            .flatMap(identity())
-            .collect(toList());
+    Iterator<ShrinkNode> shrinks() {
+        return new Iterator<ShrinkNode>() {
+            private int index = -1;
+            private Iterator<ShrinkNode> current = emptyIterator();
+
+            @Override public boolean hasNext() {
+                while (!current.hasNext() && ++index < params.size())
+                    current = shrinksAt(index);
+
+                return current.hasNext();
+            }
+
+            @Override public ShrinkNode next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return current.next();
+            }
+        };
     }
 
     boolean verifyProperty() throws Throwable {
         boolean[] result = new boolean[1];
 
-        property(result).verify();
+        verifier.verify(
+            args,
+            seeds,
+            s -> result[0] = true,
+            v -> result[0] = true,
+            (e, repeatTestOption) -> {
+                failure = e;
+                result[0] = false;
+            });
 
         return result[0];
     }
@@ -118,12 +168,16 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
                 method.getName(),
                 args,
                 seeds,
+                trial,
+                trialSeeds,
                 failure)
             : smallerCounterexampleFound(
                 method.getName(),
                 originalArgs,
                 args,
                 seeds,
+                trial,
+                trialSeeds,
                 failure,
                 originalFailure);
     }
@@ -136,59 +190,114 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
         return totalDepth;
     }
 
-    BigDecimal magnitude() {
-        return totalMagnitude;
-    }
+    private Iterator<ShrinkNode> shrinksAt(int index) {
+        if (choices[index] != null)
+            return replayedShrinksAt(index);
 
-    private PropertyVerifier property(boolean[] result)
-        throws InitializationError {
+        return params.get(index).shrinkLazily(args[index])
+            .filter(o -> !o.equals(args[index]))
+            .map(o -> shrinkNodeFor(o, null, index))
+            .iterator();
+    }
 
-        return new PropertyVerifier(
-            testClass,
-            method,
-            args,
-            seeds,
-            s -> result[0] = true,
-            v -> result[0] = true,
-            (e, repeatTestOption) -> {
-                failure = e;
-                result[0] = false;
-            });
+    private Iterator<ShrinkNode> replayedShrinksAt(int index) {
+        PropertyParameterGenerationContext param = params.get(index);
+
+        return new Iterator<ShrinkNode>() {
+            private Iterator<int[]> candidates =
+                Choices.shrinks(choices[index]).iterator();
+            private ShrinkNode next;
+
+            @Override public boolean hasNext() {
+                while (next == null && candidates.hasNext()) {
+                    Replay replay = param.replay(candidates.next(), trial);
+                    if (replay == null
+                        || !Choices.simpler(replay.choices(), choices[index])) {
+
+                        continue;
+                    }
+
+                    // Simpler choices that give the same value are a simpler
+                    // way to give this node's value; shrink from them
+                    // instead, without verifying the property again.
+                    if (Objects.equals(replay.value(), args[index])) {
+                        choices[index] = replay.choices();
+                        candidates =
+                            Choices.shrinks(choices[index]).iterator();
+                    } else {
+                        next = shrinkNodeFor(
+                            replay.value(),
+                            replay.choices(),
+                            index);
+                    }
+                }
+
+                return next != null;
+            }
+
+            @Override public ShrinkNode next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                ShrinkNode result = next;
+                next = null;
+                return result;
+            }
+        };
     }
 
-    private ShrinkNode shrinkNodeFor(Object shrunk, int index) {
+    private ShrinkNode shrinkNodeFor(
+        Object shrunk,
+        int[] shrunkChoices,
+        int index) {
+
         Object[] shrunkArgs = new Object[args.length];
         System.arraycopy(args, 0, shrunkArgs, 0, args.length);
         shrunkArgs[index] = shrunk;
 
+        int[][] newChoices = choices.clone();
+        newChoices[index] = shrunkChoices;
+
         int[] newDepths = new int[depths.length];
         System.arraycopy(depths, 0, newDepths, 0, depths.length);
         ++newDepths[index];
 
         return new ShrinkNode(
             method,
-            testClass,
+            verifier,
             params,
             shrunkArgs,
             seeds,
+            trial,
+            trialSeeds,
+            newChoices,
             newDepths,
             failure);
     }
 
-    private BigDecimal computeTotalMagnitude() {
-        BigDecimal total = BigDecimal.ZERO;
+    private double magnitudeAt(int index) {
+        if (magnitudes == null) {
+            magnitudes = new double[args.length];
+            Arrays.fill(magnitudes, Double.NaN);
+        }
 
-        for (int i = 0; i < args.length; ++i) {
-            BigDecimal magnitude = magnitudeAt(i);
-            BigDecimal factor = BigDecimal.valueOf(2).pow(args.length - i - 1);
-            total = total.add(magnitude.multiply(factor));
+        if (Double.isNaN(magnitudes[index])) {
+            magnitudes[index] =
+                params.get(index).magnitude(args[index]).doubleValue();
         }
 
-        return total;
+        return magnitudes[index];
     }
 
-    private BigDecimal magnitudeAt(int index) {
-        return params.get(index).magnitude(args[index]);
+    private static int compareMagnitudes(ShrinkNode first, ShrinkNode second) {
+        for (int i = 0; i < first.args.length; ++i) {
+            int comparison =
+                Double.compare(second.magnitudeAt(i), first.magnitudeAt(i));
+            if (comparison != 0)
+                return comparison;
+        }
+
+        return 0;
     }
 
     @Override public boolean equals(Object o) {
@@ -205,18 +314,6 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
     }
 
     @Override public int compareTo(ShrinkNode other) {
-        // Nodes at lesser depth compare less than nodes of greater depth.
-        // Nodes at equal depth needs to compare their args one by one.
-        // prefer larger-magnitude args before smaller.
-
-        Comparator<ShrinkNode> comparison = comparing(ShrinkNode::depth);
-        for (int i = 0; i < params.size(); ++i) {
-            int index = i;
-            Comparator<ShrinkNode> byMagnitude =
-                comparing(s -> s.magnitudeAt(index));
-            comparison = comparison.thenComparing(byMagnitude.reversed());
-        }
-
-        return comparison.compare(this, other);
+        return ORDER.compare(this, other);
     }
 }
@@ -25,69 +25,279 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.ShrinkStrategy.BEST_FIRST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import com.pholser.junit.quickcheck.MinimalCounterexampleHook;
+import com.pholser.junit.quickcheck.ShrinkStrategy;
+import com.pholser.junit.quickcheck.TrialExecutor;
 import com.pholser.junit.quickcheck.internal.ShrinkControl;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
-import java.util.ArrayDeque;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.TestClass;
 
 class Shrinker {
     private final FrameworkMethod method;
-    private final TestClass testClass;
+    private final PropertyVerifier verifier;
     private final AssertionError failure;
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
+    private final ShrinkStrategy shrinkStrategy;
+    private final TrialExecutor executor;
     private final MinimalCounterexampleHook onMinimalCounterexample;
 
+    private final ShrinkMemo memo;
+
     private int shrinkAttempts;
     private long shrinkTimeout;
 
     Shrinker(
         FrameworkMethod method,
-        TestClass testClass,
+        PropertyVerifier verifier,
         AssertionError failure,
         ShrinkControl shrinkControl) {
 
         this.method = method;
-        this.testClass = testClass;
+        this.verifier = verifier;
         this.failure = failure;
         this.maxShrinks = shrinkControl.maxShrinks();
         this.maxShrinkDepth =
             shrinkControl.maxShrinkDepth() * method.getMethod().getParameterCount();
         this.maxShrinkTime = shrinkControl.maxShrinkTime();
+        this.shrinkParallelism = shrinkControl.shrinkParallelism();
+        this.shrinkStrategy = shrinkControl.shrinkStrategy();
+        this.executor = shrinkControl.executor();
         this.onMinimalCounterexample = shrinkControl.onMinimalCounterexample();
+        this.memo = new ShrinkMemo(maxShrinks);
+    }
+
+    int memoHits() {
+        return memo.hits();
+    }
+
+    int memoMisses() {
+        return memo.misses();
     }
 
     void shrink(
         List<PropertyParameterGenerationContext> params,
         Object[] args,
-        long[] seeds)
+        long[] seeds,
+        long trial,
+        long[] trialSeeds,
+        int[][] choices)
         throws Throwable {
 
         ShrinkNode smallest =
-            ShrinkNode.root(method, testClass, params, args, seeds, failure);
-        Queue<ShrinkNode> nodes = new ArrayDeque<>(smallest.shrinks());
-
+            ShrinkNode.root(
+                method,
+                verifier,
+                params,
+                args,
+                seeds,
+                trial,
+                trialSeeds,
+                choices,
+                failure);
+        memo.remember(smallest.args());
         shrinkTimeout = System.currentTimeMillis() + maxShrinkTime;
 
-        while (shouldContinueShrinking(nodes)) {
-            ShrinkNode next = nodes.poll();
+        if (shrinkStrategy == BEST_FIRST)
+            smallest = shrinkBestFirst(smallest);
+        else if (shrinkParallelism > 1)
+            smallest = shrinkInParallel(smallest);
+        else
+            smallest = shrink(smallest);
+
+        handleMinimalCounterexample(smallest);
+        throw smallest.fail(failure, args);
+    }
+
+    private ShrinkNode shrink(ShrinkNode smallest) throws Throwable {
+        Iterator<ShrinkNode> nodes = smallest.shrinks();
+
+        while (shouldContinueShrinking(smallest, nodes)) {
+            ShrinkNode next = nodes.next();
+            if (!memo.firstVisit(next.args()))
+                continue;
 
             boolean result = next.verifyProperty();
             ++shrinkAttempts;
 
             if (!result) {
                 smallest = next;
-                nodes = new ArrayDeque<>(smallest.shrinks());
+                nodes = smallest.shrinks();
             }
         }
 
-        handleMinimalCounterexample(smallest);
-        throw smallest.fail(failure, args);
+        return smallest;
+    }
+
+    private ShrinkNode shrinkInParallel(ShrinkNode smallest)
+        throws Throwable {
+
+        Iterator<ShrinkNode> nodes = smallest.shrinks();
+        ExecutorService pool = executor.start(shrinkParallelism);
+        try {
+            while (shouldContinueShrinking(smallest, nodes)) {
+                List<ShrinkNode> window = new ArrayList<>();
+                List<Future<Boolean>> results = new ArrayList<>();
+                while (window.size() < shrinkParallelism
+                    && shrinkAttempts + window.size() < maxShrinks
+                    && shouldContinueShrinking(smallest, nodes)) {
+
+                    ShrinkNode next = nodes.next();
+                    if (!memo.firstVisit(next.args()))
+                        continue;
+
+                    window.add(next);
+                    results.add(pool.submit(() -> verify(next)));
+                }
+
+                for (int i = 0; i < window.size(); ++i) {
+                    if (!completesInTime(results.get(i))) {
+                        abandon(window, results, i);
+                        return smallest;
+                    }
+
+                    boolean result = outcome(results.get(i));
+                    ++shrinkAttempts;
+
+                    if (!result) {
+                        abandon(window, results, i + 1);
+                        smallest = window.get(i);
+                        nodes = smallest.shrinks();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        return smallest;
+    }
+
+    private ShrinkNode shrinkBestFirst(ShrinkNode smallest)
+        throws Throwable {
+
+        ShrinkFrontier frontier = new ShrinkFrontier(maxShrinks);
+        expand(smallest, frontier);
+
+        ExecutorService pool =
+            shrinkParallelism > 1 ? executor.start(shrinkParallelism) : null;
+        try {
+            while (withinBudget() && !frontier.isEmpty()) {
+                List<ShrinkNode> window = new ArrayList<>();
+                List<Future<Boolean>> results = new ArrayList<>();
+                while (window.size() < Math.max(1, shrinkParallelism)
+                    && shrinkAttempts + window.size() < maxShrinks
+                    && !frontier.isEmpty()) {
+
+                    ShrinkNode next = frontier.poll();
+                    if (!memo.firstVisit(next.args()))
+                        continue;
+
+                    window.add(next);
+                    if (pool != null)
+                        results.add(pool.submit(() -> verify(next)));
+                }
+
+                for (int i = 0; i < window.size(); ++i) {
+                    ShrinkNode next = window.get(i);
+                    if (pool != null && !completesInTime(results.get(i))) {
+                        abandon(window, results, i);
+                        return smallest;
+                    }
+
+                    boolean result = pool == null
+                        ? next.verifyProperty()
+                        : outcome(results.get(i));
+                    ++shrinkAttempts;
+
+                    if (!result) {
+                        if (ShrinkNode.SMALLEST.compare(next, smallest) < 0)
+                            smallest = next;
+                        expand(next, frontier);
+                    }
+                }
+            }
+        } finally {
+            if (pool != null)
+                pool.shutdown();
+        }
+
+        return smallest;
+    }
+
+    private void expand(ShrinkNode node, ShrinkFrontier frontier) {
+        if (node.depth() >= maxShrinkDepth)
+            return;
+
+        Iterator<ShrinkNode> shrinks = node.shrinks();
+        for (int i = 0; i < maxShrinks && shrinks.hasNext(); ++i)
+            frontier.offer(shrinks.next());
+    }
+
+    private static boolean verify(ShrinkNode node) throws Exception {
+        try {
+            return node.verifyProperty();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    // Waits for a candidate's verification no later than the shrink
+    // deadline.
+    private boolean completesInTime(Future<Boolean> result)
+        throws InterruptedException {
+
+        try {
+            result.get(
+                Math.max(0, shrinkTimeout - System.currentTimeMillis()),
+                MILLISECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static boolean outcome(Future<Boolean> result) throws Throwable {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof UndeclaredThrowableException
+                ? ((UndeclaredThrowableException) cause)
+                    .getUndeclaredThrowable()
+                : cause;
+        }
+    }
+
+    // Candidates from index from on are never looked at. Those not yet
+    // started are cancelled, those in flight finish unobserved, and all are
+    // forgotten, so that a later node offering them again verifies them.
+    private void abandon(
+        List<ShrinkNode> window,
+        List<Future<Boolean>> results,
+        int from) {
+
+        results.subList(from, results.size()).forEach(r -> r.cancel(false));
+        window.subList(from, window.size())
+            .forEach(n -> memo.forget(n.args()));
     }
 
     private void handleMinimalCounterexample(ShrinkNode counterexample) {
@@ -101,10 +311,18 @@ class Shrinker {
         onMinimalCounterexample.handle(counterexample.args(), repeat);
     }
 
-    private boolean shouldContinueShrinking(Queue<ShrinkNode> nodes) {
+    private boolean shouldContinueShrinking(
+        ShrinkNode smallest,
+        Iterator<ShrinkNode> nodes) {
+
+        // Every shrink of a node lies one level deeper than the node.
+        return withinBudget()
+            && smallest.depth() < maxShrinkDepth
+            && nodes.hasNext();
+    }
+
+    private boolean withinBudget() {
         return shrinkAttempts < maxShrinks
-            && shrinkTimeout >= System.currentTimeMillis()
-            && !nodes.isEmpty()
-            && nodes.peek().depth() <= maxShrinkDepth;
+            && shrinkTimeout >= System.currentTimeMillis();
     }
 }
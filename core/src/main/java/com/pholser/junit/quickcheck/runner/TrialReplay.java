@@ -0,0 +1,119 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static java.lang.String.format;
+
+import com.pholser.junit.quickcheck.Property;
+import java.util.Arrays;
+
+final class TrialReplay {
+    static final String OVERRIDE = "junit-quickcheck.replay";
+
+    private final long trial;
+    private final long[] seeds;
+
+    private TrialReplay(long trial, long[] seeds) {
+        this.trial = trial;
+        this.seeds = seeds;
+    }
+
+    static TrialReplay of(Property marker, String key, int parameterCount) {
+        String override = System.getProperty(OVERRIDE);
+        String replay = override == null ? null : forProperty(override, key);
+        if (replay != null)
+            return parse(replay, parameterCount);
+
+        return marker.replayTrial() < 0
+            ? null
+            : new TrialReplay(marker.replayTrial(), null);
+    }
+
+    /**
+     * @param override entries of the form {@code Class#method=replay},
+     * separated by semicolons
+     * @param key the property's {@code Class#method}
+     * @return the replay in the entry for the given property, or
+     * {@code null} if there is none
+     */
+    static String forProperty(String override, String key) {
+        for (String entry : override.split(";")) {
+            if (entry.trim().isEmpty())
+                continue;
+
+            String[] pieces = entry.split("=", 2);
+            if (pieces.length != 2) {
+                throw new IllegalArgumentException(
+                    format(
+                        "bad trial replay [%s]; expected Class#method=trial"
+                            + " or Class#method=trial:seed,...,seed",
+                        entry.trim()));
+            }
+            if (pieces[0].trim().equals(key))
+                return pieces[1];
+        }
+
+        return null;
+    }
+
+    static TrialReplay parse(String text, int parameterCount) {
+        String[] pieces = text.trim().split(":", 2);
+        try {
+            long trial = Long.parseLong(pieces[0].trim());
+            long[] seeds =
+                pieces.length == 1
+                    ? null
+                    : Arrays.stream(pieces[1].split(","))
+                        .map(String::trim)
+                        .mapToLong(Long::parseLong)
+                        .toArray();
+
+            if (trial < 0
+                || (seeds != null && seeds.length != parameterCount)) {
+
+                throw new IllegalArgumentException();
+            }
+
+            return new TrialReplay(trial, seeds);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                format(
+                    "bad trial replay [%s]; expected trial"
+                        + " or trial:seed,...,seed with %d seeds",
+                    text,
+                    parameterCount),
+                e);
+        }
+    }
+
+    long trial() {
+        return trial;
+    }
+
+    long[] seeds() {
+        return seeds;
+    }
+}
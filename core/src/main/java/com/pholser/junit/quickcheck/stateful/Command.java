@@ -0,0 +1,92 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static java.util.Collections.emptyList;
+
+import java.util.List;
+
+/**
+ * <p>An operation on a system under test, as part of a sequence of
+ * {@link Commands} generated by a {@link StateMachine}.</p>
+ *
+ * <p>A command works with a model of the system's state. The model tells
+ * whether the command makes sense in a given state, what state the command
+ * leads to, and what the system should do when the command runs.</p>
+ *
+ * <p>Give commands a {@link Object#toString() toString()} that shows their
+ * arguments; failing sequences of commands are reported with it.</p>
+ *
+ * @param <M> type of model of the system's state
+ * @param <S> type of system under test
+ */
+public interface Command<M, S> {
+    /**
+     * <p>Tells whether this command can run in the given model state. Only
+     * sequences of commands whose preconditions hold are generated, and
+     * shrinking keeps them so.</p>
+     *
+     * <p>Unless overridden, a command can run in any state.</p>
+     *
+     * @param model state before this command
+     * @return whether this command can run in that state
+     */
+    default boolean precondition(M model) {
+        return true;
+    }
+
+    /**
+     * Gives the model state after this command. This must not look at the
+     * system under test; commands are generated and shrunk with the model
+     * alone.
+     *
+     * @param model state before this command
+     * @return state after this command; may be the given model, changed
+     */
+    M next(M model);
+
+    /**
+     * Runs this command against the system under test, and asserts its
+     * postconditions against the model state before the command.
+     *
+     * @param model state before this command
+     * @param system the system under test
+     */
+    void run(M model, S system);
+
+    /**
+     * <p>Gives simpler variants of this command, such as ones with smaller
+     * arguments, to try in place of this command when shrinking a failing
+     * sequence of commands.</p>
+     *
+     * <p>Unless overridden, a command has no simpler variants.</p>
+     *
+     * @return simpler variants of this command, simplest first
+     */
+    default List<Command<M, S>> shrinks() {
+        return emptyList();
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * <p>A sequence of {@link Command}s, generated by a {@link StateMachine},
+ * whose preconditions hold when run in order from the machine's initial
+ * model state. If generated for a parameter marked {@link Parallel}, the
+ * sequence is followed by branches of {@link ConcurrentCommand}s to run
+ * concurrently, whose preconditions hold in every interleaving of the
+ * branches.</p>
+ *
+ * <p>Declare a property parameter of this type, marked with
+ * {@link com.pholser.junit.quickcheck.From} naming the state machine, and
+ * {@link #run(Object) run} the commands against a new system under test in
+ * the property.</p>
+ *
+ * @param <M> type of model of the system's state
+ * @param <S> type of system under test
+ */
+public final class Commands<M, S> {
+    private final Supplier<M> initialModel;
+    private final List<Command<M, S>> commands;
+    private final List<List<Command<M, S>>> branches;
+    private final int repetitions;
+
+    Commands(Supplier<M> initialModel, List<Command<M, S>> commands) {
+        this(initialModel, commands, emptyList(), 1);
+    }
+
+    Commands(
+        Supplier<M> initialModel,
+        List<Command<M, S>> commands,
+        List<List<Command<M, S>>> branches,
+        int repetitions) {
+
+        this.initialModel = initialModel;
+        this.commands = unmodifiableList(new ArrayList<>(commands));
+        this.branches =
+            unmodifiableList(
+                branches.stream()
+                    .map(b -> unmodifiableList(new ArrayList<>(b)))
+                    .collect(toList()));
+        this.repetitions = repetitions;
+    }
+
+    /**
+     * @return the commands that run one at a time, in the order they run
+     */
+    public List<Command<M, S>> commands() {
+        return commands;
+    }
+
+    /**
+     * @return the branches of commands that run concurrently after the
+     * {@linkplain #commands() sequential commands}; empty unless generated
+     * for a parameter marked {@link Parallel}
+     */
+    public List<List<Command<M, S>>> branches() {
+        return branches;
+    }
+
+    /**
+     * Runs the commands in order against the given system, starting from the
+     * initial model state, and checks their postconditions. Any
+     * {@linkplain #branches() branches} then run once, concurrently, and the
+     * results they observe are checked for linearizability.
+     *
+     * @param system the system under test
+     * @throws AssertionError if a command's postconditions do not hold, or
+     * the branches' results are not linearizable; its message tells which
+     * command failed, or what the branches observed
+     */
+    public void run(S system) {
+        M model = initialModel.get();
+        for (int i = 0; i < commands.size(); ++i) {
+            Command<M, S> command = commands.get(i);
+            try {
+                command.run(model, system);
+            } catch (AssertionError e) {
+                throw new AssertionError(
+                    "Command " + (i + 1) + " of " + commands.size()
+                        + ", " + command + ", failed: " + e.getMessage(),
+                    e);
+            }
+            model = command.next(model);
+        }
+
+        if (!branches.isEmpty())
+            runBranches(system);
+    }
+
+    /**
+     * Runs the commands as {@link #run(Object)} does. If there are
+     * {@linkplain #branches() branches}, runs them as many times as the
+     * {@link Parallel#repetitions()} they were generated for, each time
+     * against a new system, since a given run of concurrent branches may
+     * happen not to interleave in a way that exposes a fault.
+     *
+     * @param systems supplier of new systems under test
+     * @throws AssertionError on the first run that fails
+     */
+    public void run(Supplier<? extends S> systems) {
+        for (int i = 0; i < repetitions; ++i)
+            run(systems.get());
+    }
+
+    private void runBranches(S system) {
+        History<M, S> history =
+            new History<>(initialModel, commands, branches.size());
+        CyclicBarrier start = new CyclicBarrier(branches.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < branches.size(); ++i) {
+            int branch = i;
+            threads.add(
+                new Thread(
+                    () -> {
+                        try {
+                            start.await();
+                            for (Command<M, S> each : branches.get(branch))
+                                history.record(branch, each, system);
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        }
+                    },
+                    "junit-quickcheck-branch-" + branch));
+        }
+
+        threads.forEach(Thread::start);
+        try {
+            for (Thread each : threads)
+                each.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError(
+                "Concurrent commands failed: " + failure.get(),
+                failure.get());
+        }
+        if (!history.linearizable())
+            throw new AssertionError("Not linearizable: " + history);
+    }
+
+    boolean valid() {
+        return preconditionsHold(initialModel, commands)
+            && (branches.isEmpty()
+                || validInterleavings(
+                    new ArrayList<>(commands),
+                    new int[branches.size()],
+                    new HashSet<>()));
+    }
+
+    // Interleavings that reach the same positions in the branches with
+    // equal models go on to hold or fail alike, so each such state is
+    // explored once. The position alone is not enough, since the model
+    // there can depend on the order the branches' commands ran in.
+    private boolean validInterleavings(
+        List<Command<M, S>> path,
+        int[] positions,
+        Set<List<Object>> explored) {
+
+        M model = modelAfter(initialModel, path);
+        List<Object> state = new ArrayList<>(positions.length + 1);
+        for (int each : positions)
+            state.add(each);
+        state.add(model);
+        if (!explored.add(state))
+            return true;
+
+        for (int i = 0; i < branches.size(); ++i) {
+            if (positions[i] == branches.get(i).size())
+                continue;
+
+            Command<M, S> next = branches.get(i).get(positions[i]);
+            if (!next.precondition(model))
+                return false;
+
+            path.add(next);
+            ++positions[i];
+            boolean valid = validInterleavings(path, positions, explored);
+            path.remove(path.size() - 1);
+            --positions[i];
+
+            if (!valid)
+                return false;
+        }
+
+        return true;
+    }
+
+    static <M, S> boolean preconditionsHold(
+        Supplier<M> initialModel,
+        List<Command<M, S>> commands) {
+
+        M model = initialModel.get();
+        for (Command<M, S> each : commands) {
+            if (!each.precondition(model))
+                return false;
+            model = each.next(model);
+        }
+        return true;
+    }
+
+    static <M, S> M modelAfter(
+        Supplier<M> initialModel,
+        List<Command<M, S>> commands) {
+
+        M model = initialModel.get();
+        for (Command<M, S> each : commands)
+            model = each.next(model);
+        return model;
+    }
+
+    Supplier<M> initialModel() {
+        return initialModel;
+    }
+
+    int repetitions() {
+        return repetitions;
+    }
+
+    int size() {
+        return commands.size()
+            + branches.stream().mapToInt(List::size).sum();
+    }
+
+    @Override public int hashCode() {
+        return 31 * commands.hashCode() + branches.hashCode();
+    }
+
+    @Override public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof Commands<?, ?>))
+            return false;
+
+        Commands<?, ?> other = (Commands<?, ?>) o;
+        return commands.equals(other.commands)
+            && branches.equals(other.branches);
+    }
+
+    @Override public String toString() {
+        return branches.isEmpty()
+            ? commands.toString()
+            : commands + ", then concurrently " + branches;
+    }
+}
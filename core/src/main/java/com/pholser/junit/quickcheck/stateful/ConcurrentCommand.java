@@ -0,0 +1,72 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+/**
+ * <p>A {@link Command} whose effect on the system under test is observed as
+ * a result, and checked against the model separately from running it. Such
+ * commands can run in the concurrent branches of a {@link Parallel}
+ * sequence, where which model state a command ran in is known only once the
+ * whole history of the branches is.</p>
+ *
+ * @param <M> type of model of the system's state
+ * @param <S> type of system under test
+ * @param <R> type of result of the command
+ */
+public interface ConcurrentCommand<M, S, R> extends Command<M, S> {
+    /**
+     * Runs this command against the system under test.
+     *
+     * @param system the system under test
+     * @return what the command observed of the system
+     */
+    R execute(S system);
+
+    /**
+     * Tells whether the given result is what the system should have given,
+     * had this command run in the given model state.
+     *
+     * @param model state before this command
+     * @param result what the command observed of the system
+     * @return whether the result is as expected
+     */
+    boolean postcondition(M model, R result);
+
+    /**
+     * {@linkplain #execute(Object) Executes} this command and checks its
+     * {@linkplain #postcondition(Object, Object) postcondition}.
+     *
+     * @param model state before this command
+     * @param system the system under test
+     */
+    @Override default void run(M model, S system) {
+        R result = execute(system);
+        if (!postcondition(model, result)) {
+            throw new AssertionError(
+                "Postcondition of " + this + " does not hold for " + result);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+final class History<M, S> {
+    private final Supplier<M> initialModel;
+    private final List<Command<M, S>> prefix;
+    private final List<List<Event<M, S>>> branches = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    History(
+        Supplier<M> initialModel,
+        List<Command<M, S>> prefix,
+        int branches) {
+
+        this.initialModel = initialModel;
+        this.prefix = prefix;
+        for (int i = 0; i < branches; ++i)
+            this.branches.add(new ArrayList<>());
+    }
+
+    /*
+     * Called only from the thread running the given branch; the branches'
+     * events are read once those threads have been joined.
+     */
+    void record(int branch, Command<M, S> command, S system) {
+        long call = clock.incrementAndGet();
+        Object result = concurrent(command).execute(system);
+        long response = clock.incrementAndGet();
+
+        add(branch, command, result, call, response);
+    }
+
+    void add(
+        int branch,
+        Command<M, S> command,
+        Object result,
+        long call,
+        long response) {
+
+        branches.get(branch).add(
+            new Event<>(concurrent(command), result, call, response));
+    }
+
+    /*
+     * Wing and Gong's search for a sequential order of the events that
+     * respects their real-time order and satisfies the model, pruned by
+     * remembering which pairs of linearized events and model state have
+     * already been found to lead nowhere, after Lowe.
+     */
+    boolean linearizable() {
+        List<Event<M, S>> events =
+            branches.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        return search(
+            events,
+            new ArrayList<>(),
+            new BitSet(events.size()),
+            new HashSet<>());
+    }
+
+    private boolean search(
+        List<Event<M, S>> events,
+        List<Event<M, S>> order,
+        BitSet done,
+        Set<List<Object>> refuted) {
+
+        if (done.cardinality() == events.size())
+            return true;
+
+        M model = modelAfter(order);
+        if (!refuted.add(Arrays.asList(done.clone(), model)))
+            return false;
+
+        long horizon = Long.MAX_VALUE;
+        for (int i = done.nextClearBit(0);
+            i < events.size();
+            i = done.nextClearBit(i + 1)) {
+
+            horizon = Math.min(horizon, events.get(i).response);
+        }
+
+        for (int i = done.nextClearBit(0);
+            i < events.size();
+            i = done.nextClearBit(i + 1)) {
+
+            Event<M, S> next = events.get(i);
+            if (next.call > horizon || !next.consistentWith(model))
+                continue;
+
+            order.add(next);
+            done.set(i);
+            if (search(events, order, done, refuted))
+                return true;
+            done.clear(i);
+            order.remove(order.size() - 1);
+        }
+
+        return false;
+    }
+
+    private M modelAfter(List<Event<M, S>> order) {
+        List<Command<M, S>> commands = new ArrayList<>(prefix);
+        order.forEach(e -> commands.add(e.command));
+        return Commands.modelAfter(initialModel, commands);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <M, S> ConcurrentCommand<M, S, Object> concurrent(
+        Command<M, S> command) {
+
+        return (ConcurrentCommand<M, S, Object>) command;
+    }
+
+    @Override public String toString() {
+        return prefix + ", then concurrently " + branches;
+    }
+
+    private static final class Event<M, S> {
+        private final ConcurrentCommand<M, S, Object> command;
+        private final Object result;
+        private final long call;
+        private final long response;
+
+        Event(
+            ConcurrentCommand<M, S, Object> command,
+            Object result,
+            long call,
+            long response) {
+
+            this.command = command;
+            this.result = result;
+            this.call = call;
+            this.response = response;
+        }
+
+        boolean consistentWith(M model) {
+            return command.precondition(model)
+                && command.postcondition(model, result);
+        }
+
+        @Override public String toString() {
+            return command + " -> " + result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import com.pholser.junit.quickcheck.generator.GeneratorConfiguration;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Mark a parameter of type {@link Commands} with this annotation to have
+ * its {@link StateMachine} generate, after a sequential prefix of commands,
+ * several branches of {@link ConcurrentCommand}s to run on separate threads.
+ * {@link Commands#run(java.util.function.Supplier) Running} such commands
+ * checks that what the branches observed could have happened had the
+ * commands run one at a time, in some order consistent with when each began
+ * and ended; that is, that the system is linearizable with respect to the
+ * model.</p>
+ *
+ * <p>Preconditions of commands in branches must hold in every interleaving
+ * of the branches, so branches are kept short. Interleavings that reach the
+ * same point in each branch with {@linkplain Object#equals(Object) equal}
+ * models are checked once, so a model type with value equality keeps
+ * longer branches affordable.</p>
+ */
+@Target({ PARAMETER, FIELD, ANNOTATION_TYPE, TYPE_USE })
+@Retention(RUNTIME)
+@GeneratorConfiguration
+public @interface Parallel {
+    /**
+     * @return how many branches of commands to run concurrently
+     */
+    int branches() default 2;
+
+    /**
+     * @return the most commands to generate for each branch
+     */
+    int length() default 4;
+
+    /**
+     * @return how many times to run the commands, each time against a new
+     * system, before concluding that their concurrent runs are all
+     * linearizable
+     */
+    int repetitions() default 20;
+}
@@ -0,0 +1,306 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
+import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
+import static com.pholser.junit.quickcheck.internal.Sequences.flatMapLazily;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <p>Generates sequences of {@link Command}s to run against a system under
+ * test, from a model of the system's state.</p>
+ *
+ * <p>Subclass this generator to give the initial model state and to
+ * generate a command suited to a given model state, and name the subclass
+ * in a {@link com.pholser.junit.quickcheck.From} marking on a property
+ * parameter of type {@link Commands}. Command arguments can be generated
+ * with {@link #gen()}, which offers the same generators as property
+ * parameters get.</p>
+ *
+ * <p>A sequence holds a number of commands limited by
+ * {@link GenerationStatus#size()}, or else by the attributes of a
+ * {@link Size} marking. A failing sequence is shrunk by removing commands
+ * and by trying {@linkplain Command#shrinks() simpler variants} of its
+ * commands, keeping only sequences whose preconditions hold, within the
+ * property's shrinking budgets.</p>
+ *
+ * <p>For a parameter marked {@link Parallel}, the sequence is followed by
+ * branches of {@link ConcurrentCommand}s to run concurrently. Shrinking then
+ * also removes and simplifies commands in the branches.</p>
+ *
+ * @param <M> type of model of the system's state
+ * @param <S> type of system under test
+ */
+public abstract class StateMachine<M, S> extends Generator<Commands<M, S>> {
+    private static final int MAX_ATTEMPTS = 100;
+
+    private Size sizeRange;
+    private Parallel parallel;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected StateMachine() {
+        super((Class) Commands.class);
+    }
+
+    /**
+     * Gives a new model of the system's state before any command runs.
+     * Called anew for each generated sequence, and each time a sequence
+     * runs, so a mutable model may be given.
+     *
+     * @return initial model state
+     */
+    protected abstract M initialModel();
+
+    /**
+     * Generates a command that could run in the given model state. A command
+     * whose {@linkplain Command#precondition(Object) precondition} does not
+     * hold in that state is discarded and another is generated in its place.
+     *
+     * @param model state before the command
+     * @param random source of randomness to use in generating the command
+     * @param status an object that can be used to influence the generated
+     * command, such as the sizes of its arguments
+     * @return a command
+     */
+    protected abstract Command<M, S> command(
+        M model,
+        SourceOfRandomness random,
+        GenerationStatus status);
+
+    /**
+     * Tells this generator to generate a number of commands within a
+     * specified minimum and/or maximum, inclusive, chosen with uniform
+     * distribution. Fewer commands may result if no command's precondition
+     * holds.
+     *
+     * @param size annotation that gives the size constraints
+     */
+    public void configure(Size size) {
+        this.sizeRange = size;
+        checkRange(INTEGRAL, size.min(), size.max());
+    }
+
+    /**
+     * Tells this generator to follow the generated sequence of commands with
+     * branches of {@link ConcurrentCommand}s to run concurrently.
+     *
+     * @param parallel annotation that gives the number and length of the
+     * branches
+     */
+    public void configure(Parallel parallel) {
+        if (parallel.branches() < 1
+            || parallel.length() < 1
+            || parallel.repetitions() < 1) {
+
+            throw new IllegalArgumentException(
+                "Parallel branches, length, and repetitions must be positive");
+        }
+
+        this.parallel = parallel;
+    }
+
+    @Override public Commands<M, S> generate(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        int size =
+            sizeRange != null
+                ? random.nextInt(sizeRange.min(), sizeRange.max())
+                : status.size();
+
+        M model = initialModel();
+        List<Command<M, S>> commands = new ArrayList<>();
+        while (commands.size() < size) {
+            Command<M, S> next = suitedTo(model, random, status);
+            if (next == null)
+                break;
+
+            commands.add(next);
+            model = next.next(model);
+        }
+
+        return parallel == null
+            ? new Commands<>(this::initialModel, commands)
+            : new Commands<>(
+                this::initialModel,
+                commands,
+                branches(commands, random, status),
+                parallel.repetitions());
+    }
+
+    @Override public List<Commands<M, S>> doShrink(
+        SourceOfRandomness random,
+        Commands<M, S> larger) {
+
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<Commands<M, S>> doShrinkLazily(
+        SourceOfRandomness random,
+        Commands<M, S> larger) {
+
+        List<Command<M, S>> prefix = larger.commands();
+        List<List<Command<M, S>>> branches = larger.branches();
+
+        Stream<Commands<M, S>> prefixRemovals =
+            ddmin(prefix)
+                .filter(p -> p.size() >= minimumSize())
+                .map(p -> shrunk(larger, p, branches));
+        Stream<Commands<M, S>> branchRemovals =
+            flatMapLazily(
+                IntStream.range(0, branches.size()).boxed(),
+                i -> ddmin(branches.get(i))
+                    .map(b -> shrunk(larger, prefix, with(branches, i, b))));
+        Stream<Commands<M, S>> simplifications =
+            Stream.concat(
+                simplifications(prefix)
+                    .map(p -> shrunk(larger, p, branches)),
+                flatMapLazily(
+                    IntStream.range(0, branches.size()).boxed(),
+                    i -> simplifications(branches.get(i))
+                        .map(b ->
+                            shrunk(larger, prefix, with(branches, i, b)))));
+
+        return flatMapLazily(
+            Stream.of(prefixRemovals, branchRemovals, simplifications),
+            s -> s)
+            .filter(Commands::valid);
+    }
+
+    @Override public BigDecimal magnitude(Object value) {
+        return BigDecimal.valueOf(narrow(value).size());
+    }
+
+    private List<List<Command<M, S>>> branches(
+        List<Command<M, S>> prefix,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<List<Command<M, S>>> branches = new ArrayList<>();
+        for (int i = 0; i < parallel.branches(); ++i)
+            branches.add(new ArrayList<>());
+
+        for (List<Command<M, S>> each : branches) {
+            int length = random.nextInt(1, parallel.length());
+            while (each.size() < length) {
+                if (!extend(each, prefix, branches, random, status))
+                    break;
+            }
+        }
+
+        return branches;
+    }
+
+    private boolean extend(
+        List<Command<M, S>> branch,
+        List<Command<M, S>> prefix,
+        List<List<Command<M, S>>> branches,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<Command<M, S>> path = new ArrayList<>(prefix);
+        path.addAll(branch);
+        M model = Commands.modelAfter(this::initialModel, path);
+
+        for (int i = 0; i < MAX_ATTEMPTS; ++i) {
+            Command<M, S> candidate = command(model, random, status);
+            if (!(candidate instanceof ConcurrentCommand<?, ?, ?>)) {
+                throw new IllegalStateException(
+                    "Commands to run concurrently must be "
+                        + ConcurrentCommand.class.getName()
+                        + "s, but got " + candidate);
+            }
+
+            branch.add(candidate);
+            if (new Commands<>(this::initialModel, prefix, branches, 1).valid())
+                return true;
+            branch.remove(branch.size() - 1);
+        }
+
+        return false;
+    }
+
+    private Stream<List<Command<M, S>>> simplifications(
+        List<Command<M, S>> commands) {
+
+        return flatMapLazily(
+            IntStream.range(0, commands.size()).boxed(),
+            i -> commands.get(i).shrinks().stream()
+                .map(simpler -> {
+                    List<Command<M, S>> shrunk = new ArrayList<>(commands);
+                    shrunk.set(i, simpler);
+                    return shrunk;
+                }));
+    }
+
+    private Commands<M, S> shrunk(
+        Commands<M, S> larger,
+        List<Command<M, S>> prefix,
+        List<List<Command<M, S>>> branches) {
+
+        return new Commands<>(
+            larger.initialModel(),
+            prefix,
+            branches,
+            larger.repetitions());
+    }
+
+    private static <T> List<T> with(List<T> items, int index, T item) {
+        List<T> replaced = new ArrayList<>(items);
+        replaced.set(index, item);
+        return replaced;
+    }
+
+    private Command<M, S> suitedTo(
+        M model,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        for (int i = 0; i < MAX_ATTEMPTS; ++i) {
+            Command<M, S> candidate = command(model, random, status);
+            if (candidate.precondition(model))
+                return candidate;
+        }
+
+        return null;
+    }
+
+    private int minimumSize() {
+        return sizeRange == null ? 0 : sizeRange.min();
+    }
+}
@@ -25,7 +25,9 @@
 
 package com.pholser.junit.quickcheck;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
@@ -34,6 +36,7 @@ import static org.junit.Assert.assertTrue;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.stream.Stream;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -92,4 +95,36 @@ public class BasicCapabilitiesOfGeneratorTest {
             IllegalStateException.class,
             () -> nonShrinkingGenerator.shrink(null, new Object()));
     }
+
+    @Test public void actOfShrinkingLazily() {
+        assertEquals(
+            emptyList(),
+            generator.shrinkLazily(null, new Object()).collect(toList()));
+    }
+
+    @Test public void nonShrinkingGeneratorAttemptingToShrinkLazily() {
+        assertThrows(
+            IllegalStateException.class,
+            () -> nonShrinkingGenerator.shrinkLazily(null, new Object()));
+    }
+
+    @Test public void shrinkingGathersLazyShrinks() {
+        Generator<Object> lazy = new Generator<Object>(Object.class) {
+            @Override public Object generate(
+                SourceOfRandomness random,
+                GenerationStatus status) {
+
+                return this;
+            }
+
+            @Override public Stream<Object> doShrinkLazily(
+                SourceOfRandomness random,
+                Object larger) {
+
+                return Stream.of(1, 2);
+            }
+        };
+
+        assertEquals(asList(1, 2), lazy.shrink(null, new Object()));
+    }
 }
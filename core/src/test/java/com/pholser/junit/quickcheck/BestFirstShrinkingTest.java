@@ -0,0 +1,136 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.ShrinkStrategy.BEST_FIRST;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class BestFirstShrinkingTest {
+    @Test public void findsMinimalCounterexample() {
+        assertThat(
+            testResult(MinimalCounterexample.class),
+            hasSingleFailureContaining("With arguments: [Foo[100], Foo[0]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MinimalCounterexample {
+        @Property(
+            shrinkStrategy = BEST_FIRST,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(
+            @From(SlowShrinks.class) Foo f,
+            @From(SlowShrinks.class) Foo g) {
+
+            assertThat(f.i(), lessThan(100));
+        }
+    }
+
+    @Test public void findsMinimalCounterexampleInParallel() {
+        assertThat(
+            testResult(MinimalCounterexampleInParallel.class),
+            hasSingleFailureContaining("With arguments: [Foo[100], Foo[0]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MinimalCounterexampleInParallel {
+        @Property(
+            shrinkStrategy = BEST_FIRST,
+            shrinkParallelism = 4,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(
+            @From(SlowShrinks.class) Foo f,
+            @From(SlowShrinks.class) Foo g) {
+
+            assertThat(f.i(), lessThan(100));
+        }
+    }
+
+    @Test public void respectsMaxShrinks() {
+        assertThat(
+            testResult(BoundedShrinks.class),
+            hasSingleFailureContaining("With arguments: ["));
+        assertThat(BoundedShrinks.iterations.get(), lessThanOrEqualTo(1 + 7));
+        BoundedShrinks.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BoundedShrinks {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(shrinkStrategy = BEST_FIRST, maxShrinks = 7)
+        public void shouldHold(Foo[] f) {
+            iterations.incrementAndGet();
+
+            throw new AssertionError();
+        }
+    }
+
+    public static class SlowShrinks extends Generator<Foo> {
+        public SlowShrinks() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(random.nextInt(1_000, 2_000));
+        }
+
+        @Override public List<Foo> doShrink(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            int i = larger.i();
+            return i == 0
+                ? emptyList()
+                : asList(new Foo(i - 1), new Foo(i / 2));
+        }
+
+        @Override public BigDecimal magnitude(Object value) {
+            return BigDecimal.valueOf(narrow(value).i());
+        }
+    }
+}
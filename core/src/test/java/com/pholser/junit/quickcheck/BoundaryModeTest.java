@@ -0,0 +1,171 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.BOUNDARY;
+import static java.math.RoundingMode.UNNECESSARY;
+import static java.math.RoundingMode.UP;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.Only;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class BoundaryModeTest {
+    @Test public void everyCombinationOfEdgesFirst() {
+        assertThat(testResult(EdgesThenRandom.class), isSuccessful());
+        assertEquals(10, EdgesThenRandom.values.size());
+
+        Set<List<Object>> expected = new HashSet<>();
+        for (RoundingMode m : asList(UP, UNNECESSARY)) {
+            for (int i = 1; i <= 3; ++i)
+                expected.add(asList(m, i));
+        }
+        assertEquals(
+            expected,
+            new HashSet<>(EdgesThenRandom.values.subList(0, 6)));
+        EdgesThenRandom.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class EdgesThenRandom {
+        static final List<List<Object>> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 10)
+        public void shouldHold(RoundingMode m, @Only({"1", "2", "3"}) int i) {
+            values.add(asList(m, i));
+        }
+    }
+
+    @Test public void randomValuesForParametersWithoutEdges() {
+        assertThat(testResult(WithoutEdges.class), isSuccessful());
+        assertEquals(5, WithoutEdges.modes.size());
+        assertEquals(asList(UP, UNNECESSARY), WithoutEdges.modes.subList(0, 2));
+        assertEquals(5, WithoutEdges.foos.size());
+        WithoutEdges.modes.clear();
+        WithoutEdges.foos.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class WithoutEdges {
+        static final List<RoundingMode> modes = new ArrayList<>();
+        static final List<Foo> foos = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 5)
+        public void shouldHold(RoundingMode m, Foo f) {
+            modes.add(m);
+            foos.add(f);
+        }
+    }
+
+    @Test public void coversPairsOfEdgesWhenTooManyCombinations() {
+        assertThat(testResult(ManyParameters.class), isSuccessful());
+        assertEquals(20, ManyParameters.values.size());
+
+        for (int i = 0; i < 6; ++i) {
+            for (int j = i + 1; j < 6; ++j) {
+                Set<List<RoundingMode>> pairs = new HashSet<>();
+                for (List<RoundingMode> each : ManyParameters.values)
+                    pairs.add(asList(each.get(i), each.get(j)));
+                assertEquals(
+                    "columns " + i + ", " + j,
+                    4,
+                    pairs.stream()
+                        .filter(p -> p.stream().allMatch(m ->
+                            m == UP || m == UNNECESSARY))
+                        .count());
+            }
+        }
+        ManyParameters.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ManyParameters {
+        static final List<List<RoundingMode>> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 20)
+        public void shouldHold(
+            RoundingMode a,
+            RoundingMode b,
+            RoundingMode c,
+            RoundingMode d,
+            RoundingMode e,
+            RoundingMode f) {
+
+            values.add(asList(a, b, c, d, e, f));
+        }
+    }
+
+    @Test public void shortestArraysFirst() {
+        assertThat(testResult(ArraysOfModes.class), isSuccessful());
+        assertEquals(
+            asList("[]", "[UP]", "[UNNECESSARY]"),
+            ArraysOfModes.values);
+        ArraysOfModes.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ArraysOfModes {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 3)
+        public void shouldHold(RoundingMode[] m) {
+            values.add(Arrays.toString(m));
+        }
+    }
+
+    @Test public void findsEdgeFailureFirst() {
+        assertThat(
+            testResult(FailingOnEdge.class),
+            hasSingleFailureContaining("With arguments: [UNNECESSARY]"));
+        assertEquals(2, FailingOnEdge.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingOnEdge {
+        static int iterations;
+
+        @Property(mode = BOUNDARY, shrink = false)
+        public void shouldHold(RoundingMode m) {
+            ++iterations;
+            assertNotEquals(UNNECESSARY, m);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.RunWith;
+import org.junit.runner.notification.RunListener;
+
+public class ConcurrentPropertiesTest {
+    @Test public void runsMethodsConcurrentlyAndReportsInOrder() {
+        List<String> events = new ArrayList<>();
+        JUnitCore core = new JUnitCore();
+        core.addListener(new RunListener() {
+            @Override public void testStarted(Description d) {
+                events.add("started " + d.getMethodName());
+            }
+
+            @Override public void testFinished(Description d) {
+                events.add("finished " + d.getMethodName());
+            }
+        });
+
+        assertTrue(core.run(AllAtOnce.class).wasSuccessful());
+
+        List<String> expected = new ArrayList<>();
+        Request.aClass(AllAtOnce.class).getRunner().getDescription()
+            .getChildren()
+            .forEach(d -> {
+                expected.add("started " + d.getMethodName());
+                expected.add("finished " + d.getMethodName());
+            });
+        assertEquals(expected, events);
+        assertEquals(4, expected.size() / 2);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    @ConcurrentProperties(threads = 4)
+    public static class AllAtOnce {
+        static final CountDownLatch running = new CountDownLatch(4);
+
+        @Property(trials = 1) public void first(Foo f) throws Exception {
+            awaitOthers();
+        }
+
+        @Property(trials = 1) public void second(Foo f) throws Exception {
+            awaitOthers();
+        }
+
+        @Property(trials = 1) public void third(Foo f) throws Exception {
+            awaitOthers();
+        }
+
+        @Test public void fourth() throws Exception {
+            awaitOthers();
+        }
+
+        private static void awaitOthers() throws InterruptedException {
+            running.countDown();
+            assertTrue(running.await(10, SECONDS));
+        }
+    }
+
+    @Test public void isolatesMethodsMarkedIsolated() {
+        assertThat(testResult(WithIsolated.class), isSuccessful());
+        assertEquals(0, WithIsolated.overlaps.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    @ConcurrentProperties(threads = 3)
+    public static class WithIsolated {
+        static final AtomicInteger running = new AtomicInteger();
+        static final AtomicInteger overlaps = new AtomicInteger();
+
+        @Property(trials = 20) public void first(Foo f) throws Exception {
+            running.incrementAndGet();
+            Thread.sleep(1);
+            running.decrementAndGet();
+        }
+
+        @Isolated
+        @Property(trials = 20) public void second(Foo f) throws Exception {
+            if (running.incrementAndGet() != 1)
+                overlaps.incrementAndGet();
+            Thread.sleep(1);
+            running.decrementAndGet();
+        }
+
+        @Property(trials = 20) public void third(Foo f) throws Exception {
+            running.incrementAndGet();
+            Thread.sleep(1);
+            running.decrementAndGet();
+        }
+    }
+
+    @Test public void reportsFailuresOfConcurrentMethods() {
+        assertThat(
+            testResult(OneFailing.class),
+            hasSingleFailureContaining("With arguments: ["));
+        assertEquals(
+            asList("failing"),
+            JUnitCore.runClasses(OneFailing.class).getFailures().stream()
+                .map(f -> f.getDescription().getMethodName())
+                .collect(toList()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    @ConcurrentProperties
+    public static class OneFailing {
+        @Property public void passing(Foo f) {
+        }
+
+        @Property public void failing(Foo f) {
+            assertThat(f.i(), lessThan(Integer.MIN_VALUE));
+        }
+    }
+}
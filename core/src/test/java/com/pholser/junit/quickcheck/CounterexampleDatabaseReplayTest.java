@@ -0,0 +1,105 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class CounterexampleDatabaseReplayTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private File directory;
+
+    @Before public void beforeEach() {
+        directory = new File(folder.getRoot(), "counterexamples");
+        System.setProperty(
+            "junit-quickcheck.counterexamples",
+            directory.getPath());
+    }
+
+    @After public void afterEach() {
+        System.clearProperty("junit-quickcheck.counterexamples");
+        RareFailure.iterations.set(0);
+        RareFailure.fixed = false;
+    }
+
+    @Test public void replaysKnownCounterexampleFirst() {
+        Result first = JUnitCore.runClasses(RareFailure.class);
+        assertEquals(1, first.getFailureCount());
+        assertThat(RareFailure.iterations.get(), greaterThan(1));
+        assertTrue(directory.isDirectory());
+        assertEquals(1, directory.list().length);
+
+        RareFailure.iterations.set(0);
+        Result second = JUnitCore.runClasses(RareFailure.class);
+
+        assertEquals(1, second.getFailureCount());
+        assertEquals(1, RareFailure.iterations.get());
+        assertEquals(
+            first.getFailures().get(0).getMessage(),
+            second.getFailures().get(0).getMessage());
+    }
+
+    @Test public void forgetsCounterexampleOnceItPasses() {
+        JUnitCore.runClasses(RareFailure.class);
+        assertEquals(1, directory.list().length);
+
+        RareFailure.fixed = true;
+        assertThat(testResult(RareFailure.class), isSuccessful());
+
+        assertEquals(0, directory.list().length);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RareFailure {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static boolean fixed;
+
+        @Property(trials = 100_000, shrink = false)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+
+            assertTrue(fixed || f.i() % 50 != 0 || f.i() == 0);
+        }
+    }
+}
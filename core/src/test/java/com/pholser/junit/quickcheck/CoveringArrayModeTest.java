@@ -0,0 +1,193 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.COVERING;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.Only;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class CoveringArrayModeTest {
+    @Test public void coversEveryPairInFewTrials() {
+        assertThat(testResult(Pairwise.class), isSuccessful());
+        assertThat(Pairwise.rows.size(), lessThan(100));
+        assertCovers(2, Pairwise.rows);
+        Pairwise.rows.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Pairwise {
+        static final List<List<Object>> rows = new ArrayList<>();
+
+        @Property(mode = COVERING)
+        public void shouldHold(
+            boolean a,
+            boolean b,
+            boolean c,
+            boolean d,
+            RoundingMode e,
+            @Only({"1", "2", "3"}) int f,
+            boolean g,
+            RoundingMode h) {
+
+            rows.add(asList(a, b, c, d, e, f, g, h));
+        }
+    }
+
+    @Test public void coversEveryTripleAtStrengthThree() {
+        assertThat(testResult(ThreeWay.class), isSuccessful());
+        assertThat(ThreeWay.rows.size(), lessThan(64));
+        assertCovers(3, ThreeWay.rows);
+        ThreeWay.rows.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ThreeWay {
+        static final List<List<Object>> rows = new ArrayList<>();
+
+        @Property(mode = COVERING, strength = 3)
+        public void shouldHold(
+            boolean a,
+            boolean b,
+            boolean c,
+            boolean d,
+            boolean e,
+            boolean f) {
+
+            rows.add(asList(a, b, c, d, e, f));
+        }
+    }
+
+    @Test public void randomValuesForInfiniteDomains() {
+        assertThat(testResult(WithInfiniteDomain.class), isSuccessful());
+        assertEquals(4, WithInfiniteDomain.values.size());
+        WithInfiniteDomain.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class WithInfiniteDomain {
+        static final List<Foo> values = new ArrayList<>();
+
+        @Property(mode = COVERING)
+        public void shouldHold(boolean a, Foo f, boolean b) {
+            values.add(f);
+        }
+    }
+
+    @Test public void trialsWithoutFiniteDomains() {
+        assertThat(testResult(NoFiniteDomains.class), isSuccessful());
+        assertEquals(7, NoFiniteDomains.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NoFiniteDomains {
+        static int iterations;
+
+        @Property(mode = COVERING, trials = 7)
+        public void shouldHold(Foo f) {
+            ++iterations;
+        }
+    }
+
+    @Test public void findsFailingPair() {
+        assertThat(
+            testResult(FailingPair.class),
+            hasSingleFailureContaining("With arguments: ["));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingPair {
+        @Property(mode = COVERING)
+        public void shouldHold(
+            boolean a,
+            boolean b,
+            boolean c,
+            boolean d,
+            boolean e) {
+
+            assertFalse(b && c);
+        }
+    }
+
+    private static void assertCovers(int strength, List<List<Object>> rows) {
+        int columns = rows.get(0).size();
+        List<Set<Object>> domains = new ArrayList<>();
+        for (int i = 0; i < columns; ++i) {
+            Set<Object> domain = new HashSet<>();
+            for (List<Object> row : rows)
+                domain.add(row.get(i));
+            domains.add(domain);
+        }
+
+        assertCovers(strength, rows, domains, new ArrayList<>(), 0);
+    }
+
+    private static void assertCovers(
+        int strength,
+        List<List<Object>> rows,
+        List<Set<Object>> domains,
+        List<Integer> subset,
+        int from) {
+
+        if (subset.size() == strength) {
+            int combinations = 1;
+            for (int member : subset)
+                combinations *= domains.get(member).size();
+
+            Set<List<Object>> seen = new HashSet<>();
+            for (List<Object> row : rows) {
+                List<Object> values = new ArrayList<>();
+                for (int member : subset)
+                    values.add(row.get(member));
+                seen.add(values);
+            }
+            assertEquals("columns " + subset, combinations, seen.size());
+            return;
+        }
+
+        for (int i = from; i < domains.size(); ++i) {
+            subset.add(i);
+            assertCovers(strength, rows, domains, subset, i + 1);
+            subset.remove(subset.size() - 1);
+        }
+    }
+}
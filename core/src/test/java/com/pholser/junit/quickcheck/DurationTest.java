@@ -0,0 +1,169 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class DurationTest {
+    @Test public void keepsVerifyingUntilDurationIsSpent() {
+        long start = System.nanoTime();
+
+        assertThat(testResult(ForDuration.class), isSuccessful());
+
+        assertThat(
+            System.nanoTime() - start,
+            greaterThanOrEqualTo(200_000_000L));
+        assertThat(ForDuration.iterations.get(), greaterThan(5));
+        ForDuration.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ForDuration {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(trials = 5, duration = "200ms")
+        public void shouldHold(Foo f) throws Exception {
+            iterations.incrementAndGet();
+            Thread.sleep(1);
+        }
+    }
+
+    @Test public void verifiesAtLeastOneTrial() {
+        assertThat(testResult(TinyDuration.class), isSuccessful());
+        assertThat(TinyDuration.iterations.get(), greaterThanOrEqualTo(1));
+        TinyDuration.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class TinyDuration {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(duration = "0ms") public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void shrinksFailureFoundWithinDuration() {
+        assertThat(
+            testResult(FailingWithinDuration.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingWithinDuration {
+        @Property(
+            duration = "10s",
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void durationAcrossWorkers() {
+        assertThat(testResult(ParallelForDuration.class), isSuccessful());
+        assertThat(ParallelForDuration.iterations.get(), greaterThan(5));
+        ParallelForDuration.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ParallelForDuration {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(trials = 5, duration = "200ms", parallelism = 3)
+        public void shouldHold(Foo f) throws Exception {
+            iterations.incrementAndGet();
+            Thread.sleep(1);
+        }
+    }
+
+    @Test public void systemPropertyOverridesTrials() {
+        System.setProperty("junit-quickcheck.duration", "100ms");
+        try {
+            assertThat(testResult(Overridden.class), isSuccessful());
+        } finally {
+            System.clearProperty("junit-quickcheck.duration");
+        }
+
+        assertThat(Overridden.iterations.get(), greaterThan(5));
+        Overridden.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Overridden {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(trials = 5) public void shouldHold(Foo f) throws Exception {
+            iterations.incrementAndGet();
+            Thread.sleep(1);
+        }
+    }
+
+    @Test public void durationIgnoredInExhaustiveMode() {
+        assertThat(testResult(Exhaustive.class), isSuccessful());
+        assertEquals(5, Exhaustive.iterations.get());
+        Exhaustive.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Exhaustive {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(mode = Mode.EXHAUSTIVE, trials = 5, duration = "1h")
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void badDuration() {
+        assertThat(
+            testResult(BadDuration.class),
+            hasSingleFailureContaining("bad duration [soon]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BadDuration {
+        @Property(duration = "soon") public void shouldHold(Foo f) {
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.GUIDED;
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.BitSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class GuidedModeTest {
+    @Test public void findsFailureBehindNestedBranches() {
+        assertThat(
+            testResult(NestedBranchesGuided.class),
+            hasSingleFailureContaining("Reached [7, 42, 13]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NestedBranchesGuided {
+        @Property(mode = GUIDED, trials = 20_000)
+        public void shouldHold(
+            @When(seed = 1618L) @From(Codes.class) int[] c) {
+
+            nestedBranches(c);
+        }
+    }
+
+    @Test public void samplingMissesFailureBehindNestedBranches() {
+        assertThat(testResult(NestedBranchesSampled.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NestedBranchesSampled {
+        @Property(mode = SAMPLING, trials = 20_000)
+        public void shouldHold(
+            @When(seed = 1618L) @From(Codes.class) int[] c) {
+
+            nestedBranches(c);
+        }
+    }
+
+    @Test public void verifiesAllTrialsWhenNothingFails() {
+        assertThat(testResult(NothingFails.class), isSuccessful());
+        assertEquals(500, NothingFails.iterations);
+        NothingFails.iterations = 0;
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NothingFails {
+        static int iterations;
+
+        @Property(mode = GUIDED, trials = 500)
+        public void shouldHold(@From(Codes.class) int[] c) {
+            ++iterations;
+
+            ManualCoverage.reach(c[0] % 8);
+        }
+    }
+
+    private static void nestedBranches(int[] c) {
+        if (c[0] == 7) {
+            ManualCoverage.reach(1);
+            if (c[1] == 42) {
+                ManualCoverage.reach(2);
+                if (c[2] == 13)
+                    throw new AssertionError("Reached [7, 42, 13]");
+            }
+        }
+    }
+
+    public static class Codes extends Generator<int[]> {
+        public Codes() {
+            super(int[].class);
+        }
+
+        @Override public int[] generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new int[] {
+                random.nextInt(0, 63),
+                random.nextInt(0, 63),
+                random.nextInt(0, 63)
+            };
+        }
+    }
+
+    public static class ManualCoverage implements Coverage {
+        private static final BitSet reached = new BitSet();
+
+        static void reach(int location) {
+            reached.set(location);
+        }
+
+        @Override public void reset() {
+            reached.clear();
+        }
+
+        @Override public BitSet covered() {
+            return (BitSet) reached.clone();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+
+import com.pholser.junit.quickcheck.generator.Ctor;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Between;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class IntegratedShrinkingTest {
+    @Test public void shrinksValuesOfGeneratorsThatCannotShrink() {
+        assertThat(
+            testResult(Unshrinkable.class),
+            hasSingleFailureContaining("With arguments: [Foo[100]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Unshrinkable {
+        @Property(
+            integratedShrinking = true,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(@From(NoShrinks.class) Foo f) {
+            assertThat(f.i(), lessThan(100));
+        }
+    }
+
+    @Test public void shrinksOnlyToValuesTheGeneratorCouldProduce() {
+        assertThat(
+            testResult(EvenValues.class),
+            hasSingleFailureContaining("With arguments: [Foo[100]]"));
+        EvenValues.values.forEach(f -> assertEquals(0, f.i() % 2));
+        EvenValues.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class EvenValues {
+        static final List<Foo> values = new CopyOnWriteArrayList<>();
+
+        @Property(
+            integratedShrinking = true,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(@From(Evens.class) Foo f) {
+            values.add(f);
+
+            assertThat(f.i(), lessThan(99));
+        }
+    }
+
+    @Test public void shrinksEachParameterIndependently() {
+        assertThat(
+            testResult(SeveralParameters.class),
+            hasSingleFailureContaining(
+                "With arguments: [Foo[0], Foo[100], Foo[0]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SeveralParameters {
+        @Property(
+            integratedShrinking = true,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(
+            @From(NoShrinks.class) Foo f,
+            @From(NoShrinks.class) Foo g,
+            @From(NoShrinks.class) Foo h) {
+
+            assertThat(g.i(), lessThan(100));
+        }
+    }
+
+    @Test public void shrinksValuesMadeByConstructor() {
+        assertThat(
+            testResult(MadeByConstructor.class),
+            hasSingleFailureContaining("With arguments: [Point[100, 0]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MadeByConstructor {
+        @Property(
+            integratedShrinking = true,
+            maxShrinks = 10_000,
+            maxShrinkDepth = 1_000)
+        public void shouldHold(@From(Ctor.class) Point p) {
+            assertThat(p.x.i() + p.y.i(), lessThan(100));
+        }
+    }
+
+    public static class Point {
+        final Foo x;
+        final Foo y;
+
+        public Point(
+            @Between(min = 0, max = 10_000) Foo x,
+            @Between(min = 0, max = 10_000) Foo y) {
+
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override public String toString() {
+            return "Point[" + x.i() + ", " + y.i() + ']';
+        }
+    }
+
+    public static class NoShrinks extends Generator<Foo> {
+        public NoShrinks() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(random.nextInt(0, 10_000));
+        }
+    }
+
+    public static class Evens extends Generator<Foo> {
+        public Evens() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(2 * random.nextInt(0, 5_000));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class LazyShrinkingTest {
+    @Test public void triesShrinksOnlyAsNeeded() {
+        assertThat(
+            testResult(EndlessShrinks.class),
+            hasSingleFailureContaining("With arguments: [Foo[100]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class EndlessShrinks {
+        @Property(maxShrinks = 10_000, maxShrinkDepth = 10_000)
+        public void shouldHold(@From(Countdown.class) Foo f) {
+            assertThat(f.i(), lessThan(100));
+        }
+    }
+
+    public static class Countdown extends Generator<Foo> {
+        public Countdown() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(random.nextInt(1_000, 2_000));
+        }
+
+        @Override public Stream<Foo> doShrinkLazily(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            return Stream.concat(
+                Stream.of(larger.i() / 2),
+                Stream.iterate(larger.i() - 1, i -> i - 1))
+                .map(Foo::new);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.stateful.Command;
+import com.pholser.junit.quickcheck.stateful.Commands;
+import com.pholser.junit.quickcheck.stateful.ConcurrentCommand;
+import com.pholser.junit.quickcheck.stateful.Parallel;
+import com.pholser.junit.quickcheck.stateful.StateMachine;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ParallelCommandsTest {
+    @Test public void shrinksNonLinearizableHistory() {
+        assertThat(
+            testResult(RacyCounterProperties.class),
+            hasSingleFailureContaining(
+                "With arguments: [[], then concurrently"
+                    + " [[increment], [increment]]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RacyCounterProperties {
+        @Property(trials = 20)
+        public void linearizable(
+            @From(Counters.class)
+            @Size(max = 3)
+            @Parallel(branches = 2, length = 3, repetitions = 5)
+                Commands<Integer, Counter> commands) {
+
+            commands.run(RacyCounter::new);
+        }
+    }
+
+    @Test public void passesLinearizableSystem() {
+        assertThat(testResult(AtomicCounterProperties.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class AtomicCounterProperties {
+        @Property(trials = 20)
+        public void linearizable(
+            @From(Counters.class)
+            @Size(max = 3)
+            @Parallel(branches = 3, length = 3)
+                Commands<Integer, Counter> commands) {
+
+            commands.run(AtomicCounter::new);
+        }
+    }
+
+    @Test public void requiresConcurrentCommandsInBranches() {
+        assertThat(
+            testResult(SequentialOnlyProperties.class),
+            hasSingleFailureContaining(
+                "must be " + ConcurrentCommand.class.getName()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SequentialOnlyProperties {
+        @Property public void linearizable(
+            @From(Resets.class) @Parallel Commands<Integer, Counter> commands) {
+
+            commands.run(AtomicCounter::new);
+        }
+    }
+
+    public interface Counter {
+        int incrementAndGet();
+
+        int get();
+    }
+
+    public static class RacyCounter implements Counter {
+        private volatile int value;
+
+        @Override public int incrementAndGet() {
+            int read = value;
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            value = read + 1;
+            return read + 1;
+        }
+
+        @Override public int get() {
+            return value;
+        }
+    }
+
+    public static class AtomicCounter implements Counter {
+        private final AtomicInteger value = new AtomicInteger();
+
+        @Override public int incrementAndGet() {
+            return value.incrementAndGet();
+        }
+
+        @Override public int get() {
+            return value.get();
+        }
+    }
+
+    public static class Counters extends StateMachine<Integer, Counter> {
+        @Override protected Integer initialModel() {
+            return 0;
+        }
+
+        @Override protected Command<Integer, Counter> command(
+            Integer model,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return random.nextBoolean() ? new Increment() : new Get();
+        }
+    }
+
+    public static class Resets extends StateMachine<Integer, Counter> {
+        @Override protected Integer initialModel() {
+            return 0;
+        }
+
+        @Override protected Command<Integer, Counter> command(
+            Integer model,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Command<Integer, Counter>() {
+                @Override public Integer next(Integer ignored) {
+                    return 0;
+                }
+
+                @Override public void run(Integer ignored, Counter counter) {
+                }
+            };
+        }
+    }
+
+    static final class Increment
+        implements ConcurrentCommand<Integer, Counter, Integer> {
+
+        @Override public Integer next(Integer model) {
+            return model + 1;
+        }
+
+        @Override public Integer execute(Counter system) {
+            return system.incrementAndGet();
+        }
+
+        @Override public boolean postcondition(Integer model, Integer result) {
+            return result == model + 1;
+        }
+
+        @Override public String toString() {
+            return "increment";
+        }
+    }
+
+    static final class Get
+        implements ConcurrentCommand<Integer, Counter, Integer> {
+
+        @Override public Integer next(Integer model) {
+            return model;
+        }
+
+        @Override public Integer execute(Counter system) {
+            return system.get();
+        }
+
+        @Override public boolean postcondition(Integer model, Integer result) {
+            return result.equals(model);
+        }
+
+        @Override public String toString() {
+            return "get";
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class ParallelShrinkingTest {
+    @Test public void findsSameCounterexampleAsSequentialShrinking() {
+        Result sequential = JUnitCore.runClasses(ShrinkingSequentially.class);
+        Result parallel = JUnitCore.runClasses(ShrinkingInParallel.class);
+
+        assertEquals(1, sequential.getFailureCount());
+        assertEquals(1, parallel.getFailureCount());
+        assertEquals(
+            sequential.getFailures().get(0).getMessage(),
+            parallel.getFailures().get(0).getMessage());
+        assertThat(
+            ShrinkingInParallel.threads.size(),
+            lessThanOrEqualTo(1 + 4));
+        ShrinkingInParallel.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingSequentially {
+        @Property(maxShrinks = 40)
+        public void shouldHold(@When(seed = 314159L) Foo[] f) {
+            assertThat(f.length, lessThan(2));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingInParallel {
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(maxShrinks = 40, shrinkParallelism = 4)
+        public void shouldHold(@When(seed = 314159L) Foo[] f) {
+            threads.add(Thread.currentThread());
+
+            assertThat(f.length, lessThan(2));
+        }
+    }
+
+    @Test public void revisitsShrinksCancelledInEarlierWindow() {
+        Result sequential =
+            JUnitCore.runClasses(RevisitingSequentially.class);
+        Result parallel = JUnitCore.runClasses(RevisitingInParallel.class);
+
+        assertEquals(1, sequential.getFailureCount());
+        assertEquals(1, parallel.getFailureCount());
+        assertThat(
+            sequential.getFailures().get(0).getMessage(),
+            containsString("With arguments: [Foo[1]]"));
+        assertEquals(
+            sequential.getFailures().get(0).getMessage(),
+            parallel.getFailures().get(0).getMessage());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RevisitingSequentially {
+        @Property public void shouldHold(
+            @When(seed = 271828L) @From(Revisits.class) Foo f) {
+
+            throw new AssertionError();
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RevisitingInParallel {
+        @Property(shrinkParallelism = 2)
+        public void shouldHold(
+            @When(seed = 271828L) @From(Revisits.class) Foo f) {
+
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * Shrinks 100 to 50 or 10, and 50 to 10, so that 10 comes up again
+     * after a window holding 50 and 10 stops at 50.
+     */
+    public static class Revisits extends Generator<Foo> {
+        public Revisits() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(100);
+        }
+
+        @Override public List<Foo> doShrink(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            switch (larger.i()) {
+                case 100:
+                    return asList(new Foo(50), new Foo(10));
+                case 50:
+                    return singletonList(new Foo(10));
+                case 10:
+                    return singletonList(new Foo(1));
+                default:
+                    return emptyList();
+            }
+        }
+    }
+
+    @Test public void respectsMaxShrinksAcrossWorkers() {
+        assertThat(
+            testResult(BoundedShrinks.class),
+            hasSingleFailureContaining("With arguments: ["));
+        assertThat(BoundedShrinks.iterations.get(), lessThanOrEqualTo(1 + 7));
+        BoundedShrinks.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class BoundedShrinks {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(maxShrinks = 7, shrinkParallelism = 3)
+        public void shouldHold(Foo[] f) {
+            iterations.incrementAndGet();
+
+            throw new AssertionError();
+        }
+    }
+
+    @Test public void stopsAtShrinkDeadlineWithoutInterruptingCandidates()
+        throws Exception {
+
+        long start = System.nanoTime();
+        assertThat(
+            testResult(SlowShrinks.class),
+            hasSingleFailureContaining("With arguments: ["));
+        long elapsed =
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(elapsed, lessThan(1500L));
+        assertTrue(SlowShrinks.finished.await(5, TimeUnit.SECONDS));
+        assertEquals(0, SlowShrinks.interrupted.get());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SlowShrinks {
+        static final CountDownLatch finished = new CountDownLatch(2);
+        static final AtomicInteger interrupted = new AtomicInteger();
+        private static volatile boolean shrinking;
+
+        @Property(maxShrinkTime = 200, shrinkParallelism = 2)
+        public void shouldHold(@From(Revisits.class) Foo f) {
+            if (shrinking) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                } finally {
+                    finished.countDown();
+                }
+            }
+
+            shrinking = true;
+            throw new AssertionError();
+        }
+    }
+
+    @Test public void unexpectedErrorDuringParallelShrinking() {
+        assertThat(
+            testResult(UnexpectedErrorDuringShrinking.class),
+            hasSingleFailureContaining(
+                "Unexpected error in property shouldHold with args ["));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnexpectedErrorDuringShrinking {
+        private static volatile boolean shrinking;
+
+        @Property(shrinkParallelism = 2) public void shouldHold(Foo f) {
+            if (shrinking)
+                throw new IllegalStateException();
+
+            shrinking = true;
+            throw new AssertionError();
+        }
+    }
+}
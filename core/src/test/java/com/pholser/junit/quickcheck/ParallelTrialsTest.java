@@ -0,0 +1,189 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.EXHAUSTIVE;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ParallelTrialsTest {
+    @Test public void verifiesEveryTrialAcrossWorkers() {
+        assertThat(testResult(AcrossWorkers.class), isSuccessful());
+        assertEquals(101, AcrossWorkers.iterations.get());
+        assertThat(AcrossWorkers.threads.size(), lessThanOrEqualTo(4));
+        AcrossWorkers.iterations.set(0);
+        AcrossWorkers.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class AcrossWorkers {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 101, parallelism = 4)
+        public void shouldHold(Foo f, Foo g) {
+            iterations.incrementAndGet();
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @Test public void verifiesEveryCombinationAcrossWorkers() {
+        assertThat(testResult(ExhaustivelyAcrossWorkers.class), isSuccessful());
+        assertEquals(112, ExhaustivelyAcrossWorkers.iterations.get());
+        assertEquals(112, ExhaustivelyAcrossWorkers.combinations.size());
+        assertThat(
+            ExhaustivelyAcrossWorkers.threads.size(),
+            lessThanOrEqualTo(4));
+        ExhaustivelyAcrossWorkers.iterations.set(0);
+        ExhaustivelyAcrossWorkers.combinations.clear();
+        ExhaustivelyAcrossWorkers.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ExhaustivelyAcrossWorkers {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<List<Object>> combinations =
+            ConcurrentHashMap.newKeySet();
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(mode = EXHAUSTIVE, parallelism = 4)
+        public void shouldHold(boolean b, RoundingMode m, TimeUnit u) {
+            iterations.incrementAndGet();
+            combinations.add(asList(b, m, u));
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @Test public void stopsExhaustiveWorkersOnFailure() {
+        assertThat(
+            testResult(FailingExhaustivelyAcrossWorkers.class),
+            hasSingleFailureContaining("With arguments: ["));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingExhaustivelyAcrossWorkers {
+        @Property(trials = 10, mode = EXHAUSTIVE, parallelism = 3)
+        public void shouldHold(boolean b, Foo f) {
+            assertThat(b, equalTo(true));
+        }
+    }
+
+    @Test public void stopsWorkersAndShrinksFirstFailure() {
+        assertThat(
+            testResult(FailingAcrossWorkers.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+        assertThat(
+            FailingAcrossWorkers.iterations.get(),
+            lessThan(100_000));
+        FailingAcrossWorkers.iterations.set(0);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingAcrossWorkers {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Property(
+            trials = 100_000,
+            parallelism = 3,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void unexpectedErrorInWorker() {
+        assertThat(
+            testResult(UnexpectedErrorInWorker.class),
+            hasSingleFailureContaining(
+                "Unexpected error in property shouldHold with args ["));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnexpectedErrorInWorker {
+        @Property(parallelism = 2) public void shouldHold(Foo f) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test public void runsWorkersOnGivenExecutor() {
+        assertThat(testResult(OnGivenExecutor.class), isSuccessful());
+        assertEquals(3, NamedThreads.started.get());
+        assertThat(
+            OnGivenExecutor.threads.stream()
+                .allMatch(t -> t.getName().startsWith("named-")),
+            equalTo(true));
+        NamedThreads.started.set(0);
+        OnGivenExecutor.threads.clear();
+    }
+
+    public static class NamedThreads implements TrialExecutor {
+        static final AtomicInteger started = new AtomicInteger();
+
+        @Override public ExecutorService start(int parallelism) {
+            started.addAndGet(parallelism);
+            return Executors.newFixedThreadPool(
+                parallelism,
+                r -> new Thread(r, "named-" + started.get()));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class OnGivenExecutor {
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 30, parallelism = 3, executor = NamedThreads.class)
+        public void shouldHold(Foo f) {
+            threads.add(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class PipelinedSamplingTest {
+    @Test public void sameValuesInSameOrderAsWithoutLookahead() {
+        assertThat(testResult(WithoutLookahead.class), isSuccessful());
+        assertThat(testResult(WithLookahead.class), isSuccessful());
+
+        assertEquals(20, WithLookahead.values.size());
+        assertEquals(WithoutLookahead.values, WithLookahead.values);
+        assertFalse(WithLookahead.verifiedOnProducer);
+        WithoutLookahead.values.clear();
+        WithLookahead.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class WithoutLookahead {
+        static final List<Foo> values = new ArrayList<>();
+
+        @Property(trials = 20) public void shouldHold(
+            @When(seed = 42) Foo f) {
+
+            values.add(f);
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class WithLookahead {
+        static final List<Foo> values = new ArrayList<>();
+        static boolean verifiedOnProducer;
+
+        @Property(trials = 20, lookahead = 4) public void shouldHold(
+            @When(seed = 42) Foo f) {
+
+            values.add(f);
+            verifiedOnProducer |=
+                Thread.currentThread().getName()
+                    .startsWith("junit-quickcheck-sampler");
+        }
+    }
+
+    @Test public void shrinksFailureFoundWithLookahead() {
+        assertThat(
+            testResult(FailingWithLookahead.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingWithLookahead {
+        @Property(
+            lookahead = 8,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void generationFailureSurfacesWithLookahead() {
+        assertThat(
+            testResult(UnsatisfiableWithLookahead.class),
+            hasSingleFailureContaining("discard ratio"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnsatisfiableWithLookahead {
+        @Property(lookahead = 2) public void shouldHold(
+            @When(satisfies = "false") Foo f) {
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.failureCountIs;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.ABool;
+import com.pholser.junit.quickcheck.test.generator.AnInt;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class PropertyInvocationTest {
+    @Test public void primitiveAndReferenceArguments() {
+        assertThat(testResult(MixedArguments.class), isSuccessful());
+        assertEquals(15, MixedArguments.iterations);
+        MixedArguments.iterations = 0;
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class MixedArguments {
+        static int iterations;
+
+        @Property(trials = 15) public void shouldHold(
+            @From(AnInt.class) int i,
+            @From(ABool.class) boolean b,
+            Foo f,
+            Foo[] foos) {
+
+            ++iterations;
+        }
+    }
+
+    @Test public void freshInstancePerTrial() {
+        assertThat(testResult(InstancePerTrial.class), isSuccessful());
+        assertEquals(7, InstancePerTrial.instances.size());
+        InstancePerTrial.instances.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class InstancePerTrial {
+        static final Set<Object> instances = new HashSet<>();
+
+        @Property(trials = 7) public void shouldHold(Foo f) {
+            instances.add(this);
+        }
+    }
+
+    @Test public void checkedExceptionFromPropertyIsNotWrapped() {
+        Result result = JUnitCore.runClasses(ThrowsChecked.class);
+
+        assertThat(testResult(ThrowsChecked.class), failureCountIs(1));
+        assertThat(
+            result.getFailures().get(0).getException().getCause(),
+            instanceOf(IOException.class));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ThrowsChecked {
+        @Property public void shouldHold(Foo f) throws IOException {
+            throw new IOException();
+        }
+    }
+}
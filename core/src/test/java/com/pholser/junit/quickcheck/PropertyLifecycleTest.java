@@ -0,0 +1,211 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Lifecycle.PER_PROPERTY;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runner.RunWith;
+
+public class PropertyLifecycleTest {
+    @Test public void perTrialLifecycleRunsTrialHooksInsideFixtures() {
+        assertThat(testResult(PerTrial.class), isSuccessful());
+        assertEquals(
+            asList(
+                "rule before", "set up", "before trial",
+                "property",
+                "after trial", "tear down", "rule after",
+                "rule before", "set up", "before trial",
+                "property",
+                "after trial", "tear down", "rule after"),
+            PerTrial.LOGS);
+        PerTrial.LOGS.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PerTrial {
+        static final List<String> LOGS = new ArrayList<>();
+
+        @Rule public final ExternalResource rule =
+            new ExternalResource() {
+                @Override protected void before() {
+                    LOGS.add("rule before");
+                }
+
+                @Override protected void after() {
+                    LOGS.add("rule after");
+                }
+            };
+
+        @Before public void setUp() {
+            LOGS.add("set up");
+        }
+
+        @BeforeTrial public void beforeTrial() {
+            LOGS.add("before trial");
+        }
+
+        @AfterTrial public void afterTrial() {
+            LOGS.add("after trial");
+        }
+
+        @After public void tearDown() {
+            LOGS.add("tear down");
+        }
+
+        @Property(trials = 2) public void shouldHold(Foo f) {
+            LOGS.add("property");
+        }
+    }
+
+    @Test public void perPropertyLifecycleRunsFixturesOnce() {
+        assertThat(testResult(PerProperty.class), isSuccessful());
+        assertEquals(
+            asList(
+                "rule before", "set up",
+                "before trial", "property", "after trial",
+                "before trial", "property", "after trial",
+                "before trial", "property", "after trial",
+                "tear down", "rule after"),
+            PerProperty.LOGS);
+        assertEquals(1, PerProperty.instances.size());
+        PerProperty.LOGS.clear();
+        PerProperty.instances.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class PerProperty {
+        static final List<String> LOGS = new ArrayList<>();
+        static final Set<Object> instances = new HashSet<>();
+
+        @Rule public final ExternalResource rule =
+            new ExternalResource() {
+                @Override protected void before() {
+                    LOGS.add("rule before");
+                }
+
+                @Override protected void after() {
+                    LOGS.add("rule after");
+                }
+            };
+
+        @Before public void setUp() {
+            LOGS.add("set up");
+        }
+
+        @BeforeTrial public void beforeTrial() {
+            LOGS.add("before trial");
+        }
+
+        @AfterTrial public void afterTrial() {
+            LOGS.add("after trial");
+        }
+
+        @After public void tearDown() {
+            LOGS.add("tear down");
+        }
+
+        @Property(trials = 3, lifecycle = PER_PROPERTY)
+        public void shouldHold(Foo f) {
+            instances.add(this);
+            LOGS.add("property");
+        }
+    }
+
+    @Test public void perPropertyLifecycleShrinksAgainstSameInstance() {
+        assertThat(
+            testResult(ShrinkingPerProperty.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+        assertEquals(1, ShrinkingPerProperty.setUps);
+        assertEquals(1, ShrinkingPerProperty.instances.size());
+        ShrinkingPerProperty.setUps = 0;
+        ShrinkingPerProperty.instances.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingPerProperty {
+        static int setUps;
+        static final Set<Object> instances = new HashSet<>();
+
+        private int trialState;
+
+        @Before public void setUp() {
+            ++setUps;
+        }
+
+        @BeforeTrial public void reset() {
+            trialState = 0;
+        }
+
+        @Property(
+            lifecycle = PER_PROPERTY,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            instances.add(this);
+            assertEquals(0, trialState++);
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void trialHooksMustTakeNoArguments() {
+        assertThat(
+            testResult(TrialHookWithArguments.class),
+            hasFailureContaining("should have no parameters"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class TrialHookWithArguments {
+        @BeforeTrial public void reset(int i) {
+        }
+
+        @Property public void shouldHold(Foo f) {
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.stateful.Command;
+import com.pholser.junit.quickcheck.stateful.Commands;
+import com.pholser.junit.quickcheck.stateful.StateMachine;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class StatefulPropertiesTest {
+    @Test public void shrinksFailingSequenceOfCommands() {
+        assertThat(
+            testResult(LossyStackProperties.class),
+            hasSingleFailureContaining(
+                "With arguments: [[push(Foo[0]), push(Foo[0]), push(Foo[0]),"
+                    + " push(Foo[0]), push(Foo[0]), size]]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class LossyStackProperties {
+        @Property(maxShrinks = 1_000, maxShrinkDepth = 1_000)
+        public void behavesLikeModel(
+            @From(Stacks.class) @Size(max = 30)
+                Commands<List<Foo>, Stack> commands) {
+
+            commands.run(new Stack(4));
+        }
+    }
+
+    @Test public void keepsPreconditions() {
+        assertThat(testResult(StackProperties.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class StackProperties {
+        @Property public void behavesLikeModel(
+            @From(Stacks.class) Commands<List<Foo>, Stack> commands) {
+
+            commands.run(new Stack(Integer.MAX_VALUE));
+        }
+    }
+
+    @Test public void respectsSize() {
+        assertThat(testResult(SizedCommands.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SizedCommands {
+        @Property public void sized(
+            @From(Stacks.class) @Size(min = 2, max = 5)
+                Commands<List<Foo>, Stack> commands) {
+
+            assertThat(
+                commands.commands().size(),
+                allOf(greaterThanOrEqualTo(2), lessThanOrEqualTo(5)));
+        }
+    }
+
+    public static class Stack {
+        private final int capacity;
+        private final List<Foo> items = new ArrayList<>();
+
+        Stack(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void push(Foo item) {
+            if (items.size() == capacity)
+                items.remove(0);
+            items.add(item);
+        }
+
+        Foo pop() {
+            if (items.isEmpty())
+                throw new IllegalStateException("empty");
+            return items.remove(items.size() - 1);
+        }
+
+        int size() {
+            return items.size();
+        }
+    }
+
+    public static class Stacks extends StateMachine<List<Foo>, Stack> {
+        @Override protected List<Foo> initialModel() {
+            return new ArrayList<>();
+        }
+
+        @Override protected Command<List<Foo>, Stack> command(
+            List<Foo> model,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    return new Push(
+                        gen().type(Foo.class).generate(random, status));
+                case 1:
+                    return new Pop();
+                default:
+                    return new SizeOf();
+            }
+        }
+    }
+
+    static final class Push implements Command<List<Foo>, Stack> {
+        private final Foo item;
+
+        Push(Foo item) {
+            this.item = item;
+        }
+
+        @Override public List<Foo> next(List<Foo> model) {
+            model.add(item);
+            return model;
+        }
+
+        @Override public void run(List<Foo> model, Stack system) {
+            system.push(item);
+        }
+
+        @Override public List<Command<List<Foo>, Stack>> shrinks() {
+            return item.i() == 0
+                ? emptyList()
+                : asList(new Push(new Foo(0)), new Push(new Foo(item.i() / 2)));
+        }
+
+        @Override public String toString() {
+            return "push(" + item + ')';
+        }
+    }
+
+    static final class Pop implements Command<List<Foo>, Stack> {
+        @Override public boolean precondition(List<Foo> model) {
+            return !model.isEmpty();
+        }
+
+        @Override public List<Foo> next(List<Foo> model) {
+            model.remove(model.size() - 1);
+            return model;
+        }
+
+        @Override public void run(List<Foo> model, Stack system) {
+            assertEquals(model.get(model.size() - 1), system.pop());
+        }
+
+        @Override public String toString() {
+            return "pop";
+        }
+    }
+
+    static final class SizeOf implements Command<List<Foo>, Stack> {
+        @Override public List<Foo> next(List<Foo> model) {
+            return model;
+        }
+
+        @Override public void run(List<Foo> model, Stack system) {
+            assertEquals(model.size(), system.size());
+        }
+
+        @Override public String toString() {
+            return "size";
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static com.pholser.junit.quickcheck.Mode.TARGETED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.Arrays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class TargetedModeTest {
+    @Test public void climbsTowardGreaterObservedValues() {
+        assertThat(
+            testResult(NearbyTargeted.class),
+            hasSingleFailureContaining("Came within"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NearbyTargeted {
+        @Property(mode = TARGETED, trials = 5_000)
+        public void shouldHold(
+            @When(seed = 1729L) @From(Points.class) int[] p,
+            Target target) {
+
+            nearby(p, target);
+        }
+    }
+
+    @Test public void samplingDoesNotComeClose() {
+        assertThat(testResult(NearbySampled.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NearbySampled {
+        @Property(mode = SAMPLING, trials = 5_000)
+        public void shouldHold(
+            @When(seed = 1729L) @From(Points.class) int[] p,
+            Target target) {
+
+            nearby(p, target);
+        }
+    }
+
+    @Test public void verifiesAllTrialsWhenNothingFails() {
+        assertThat(testResult(NothingFails.class), isSuccessful());
+        assertEquals(300, NothingFails.iterations);
+        NothingFails.iterations = 0;
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NothingFails {
+        static int iterations;
+
+        @Property(mode = TARGETED, trials = 300)
+        public void shouldHold(@From(Points.class) int[] p, Target target) {
+            ++iterations;
+
+            assertTrue(Double.isInfinite(target.observed()));
+            target.observe(p[0]);
+        }
+    }
+
+    @Test public void requiresTargetParameter() {
+        assertThat(
+            testResult(NoTarget.class),
+            hasSingleFailureContaining(
+                "needs a property parameter of type "
+                    + Target.class.getName()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NoTarget {
+        @Property(mode = TARGETED)
+        public void shouldHold(@From(Points.class) int[] p) {
+        }
+    }
+
+    @Test public void keepsGreatestObservedValue() {
+        Target target = new Target();
+
+        target.observe(3);
+        target.observe(7);
+        target.observe(5);
+
+        assertEquals(7, target.observed(), 0);
+    }
+
+    private static void nearby(int[] p, Target target) {
+        int distance = Math.abs(p[0] - 731) + Math.abs(p[1] - 218);
+        target.observe(-distance);
+
+        if (distance <= 2) {
+            throw new AssertionError(
+                "Came within " + distance + " at " + Arrays.toString(p));
+        }
+    }
+
+    public static class Points extends Generator<int[]> {
+        public Points() {
+            super(int[].class);
+        }
+
+        @Override public int[] generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new int[] {
+                random.nextInt(0, 1000),
+                random.nextInt(0, 1000)
+            };
+        }
+    }
+}
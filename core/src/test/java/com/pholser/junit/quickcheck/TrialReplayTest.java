@@ -0,0 +1,199 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.RunWith;
+
+public class TrialReplayTest {
+    @Test public void replaysOneTrialWithoutEarlierOnes() {
+        assertThat(testResult(AllTrials.class), isSuccessful());
+        assertThat(testResult(OneTrial.class), isSuccessful());
+
+        assertEquals(1, OneTrial.values.size());
+        assertArrayEquals(
+            AllTrials.values.get(137),
+            OneTrial.values.get(0));
+        AllTrials.values.clear();
+        OneTrial.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class AllTrials {
+        static final List<Foo[]> values = new ArrayList<>();
+
+        @Property(trials = 200)
+        public void shouldHold(@When(seed = 42) Foo[] f) {
+            values.add(f);
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class OneTrial {
+        static final List<Foo[]> values = new ArrayList<>();
+
+        @Property(trials = 200, replayTrial = 137)
+        public void shouldHold(@When(seed = 42) Foo[] f) {
+            values.add(f);
+        }
+    }
+
+    @Test public void trialValuesDoNotDependOnParallelism() {
+        assertThat(testResult(Sequential.class), isSuccessful());
+        assertThat(testResult(Parallel.class), isSuccessful());
+
+        assertEquals(sorted(Sequential.values), sorted(Parallel.values));
+        Sequential.values.clear();
+        Parallel.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Sequential {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Property(trials = 50)
+        public void shouldHold(@When(seed = -7) Foo f) {
+            values.add(f.i());
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Parallel {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Property(trials = 50, parallelism = 3)
+        public void shouldHold(@When(seed = -7) Foo f) {
+            synchronized (values) {
+                values.add(f.i());
+            }
+        }
+    }
+
+    @Test public void replaysReportedTrialViaSystemProperty() {
+        Result original = JUnitCore.runClasses(FailingLate.class);
+        assertEquals(1, original.getFailureCount());
+        String message = original.getFailures().get(0).getMessage();
+
+        Matcher seeds =
+            Pattern.compile("Seeds for reproduction: \\[(-?\\d+)]")
+                .matcher(message);
+        Matcher trial =
+            Pattern.compile("Trial for reproduction: (\\d+)")
+                .matcher(message);
+        assertTrue(message, seeds.find());
+        assertTrue(message, trial.find());
+
+        System.setProperty(
+            "junit-quickcheck.replay",
+            FailingLate.class.getName() + "#shouldHold="
+                + trial.group(1) + ':' + seeds.group(1));
+        try {
+            Result replayed = JUnitCore.runClasses(FailingLate.class);
+
+            assertEquals(1, replayed.getFailureCount());
+            assertEquals(
+                message,
+                replayed.getFailures().get(0).getMessage());
+            assertEquals(1, replayed.getRunCount());
+        } finally {
+            System.clearProperty("junit-quickcheck.replay");
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FailingLate {
+        @Property(trials = 10_000, shrink = false)
+        public void shouldHold(Foo f) {
+            assertTrue(f.i() % 20 != 0);
+        }
+    }
+
+    @Test public void replayOnlyNamedProperty() {
+        System.setProperty(
+            "junit-quickcheck.replay",
+            TwoProperties.class.getName() + "#first=3");
+        try {
+            assertThat(testResult(TwoProperties.class), isSuccessful());
+
+            assertEquals(1, TwoProperties.first);
+            assertEquals(20, TwoProperties.second);
+        } finally {
+            System.clearProperty("junit-quickcheck.replay");
+            TwoProperties.first = 0;
+            TwoProperties.second = 0;
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class TwoProperties {
+        static int first;
+        static int second;
+
+        @Property(trials = 20)
+        public void first(Foo f) {
+            ++first;
+        }
+
+        @Property(trials = 20)
+        public void second(Foo f, Foo g) {
+            ++second;
+        }
+    }
+
+    @Test public void badReplay() {
+        System.setProperty(
+            "junit-quickcheck.replay",
+            FailingLate.class.getName() + "#shouldHold=12:1,2");
+        try {
+            assertThat(
+                testResult(FailingLate.class),
+                hasSingleFailureContaining("bad trial replay [12:1,2]"));
+        } finally {
+            System.clearProperty("junit-quickcheck.replay");
+        }
+    }
+
+    private static List<Integer> sorted(List<Integer> values) {
+        return values.stream().sorted().collect(toList());
+    }
+}
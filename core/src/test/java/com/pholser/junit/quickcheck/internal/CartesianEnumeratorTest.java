@@ -0,0 +1,320 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+import org.junit.Test;
+
+public class CartesianEnumeratorTest {
+    @Test public void noSources() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(emptyList());
+
+        List<List<Integer>> asList = tuples(product);
+
+        assertEquals(0, asList.size());
+    }
+
+    @Test public void singleSourceIsEmpty() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(singletonList(emptyList()));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(0, result.size());
+    }
+
+    @Test public void multipleSourcesAreEmpty() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(emptyList(), emptyList(), emptyList()));
+
+        List<List<Integer>> result = tuples(product);
+        assertEquals(0, result.size());
+    }
+
+    @Test public void onlyOneSourceIsEmpty() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    asList(1, 2, 3),
+                    emptyList(),
+                    asList(4, 5, 6, 7)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(0, result.size());
+    }
+
+    @Test public void oneSourceOfOne() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                singletonList(
+                    singletonList(1)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(singletonList(singletonList(1)), result);
+    }
+
+    @Test public void manySourcesOfOne() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    singletonList(1),
+                    singletonList(2),
+                    singletonList(3),
+                    singletonList(4)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(singletonList(asList(1, 2, 3, 4)), result);
+    }
+
+    @Test public void oneSourceOfManyAtPositionZero() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    asList(1, 2, 3),
+                    singletonList(4),
+                    singletonList(5),
+                    singletonList(6)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(
+            asList(
+                asList(1, 4, 5, 6),
+                asList(2, 4, 5, 6),
+                asList(3, 4, 5, 6)
+            ),
+            result);
+    }
+
+    @Test public void oneSourceOfManyAtPositionMid() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    singletonList(1),
+                    singletonList(2),
+                    asList(3, 4, 5),
+                    singletonList(6)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(
+            asList(
+                asList(1, 2, 3, 6),
+                asList(1, 2, 4, 6),
+                asList(1, 2, 5, 6)),
+            result);
+    }
+
+    @Test public void oneSourceOfManyAtPositionLast() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    singletonList(1),
+                    singletonList(2),
+                    singletonList(3),
+                    asList(4, 5, 6)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(
+            asList(
+                asList(1, 2, 3, 4),
+                asList(1, 2, 3, 5),
+                asList(1, 2, 3, 6)),
+            result);
+    }
+
+    @Test public void manySourcesOfMany() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    asList(0, 1, 2, 3, 4),
+                    asList(5, 6),
+                    asList(7, 8, 9),
+                    asList(10, 11, 12)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(
+            asList(
+                asList(0, 5, 7, 10), asList(1, 5, 7, 10), asList(2, 5, 7, 10), asList(3, 5, 7, 10), asList(4, 5, 7, 10),
+                asList(0, 6, 7, 10), asList(1, 6, 7, 10), asList(2, 6, 7, 10), asList(3, 6, 7, 10), asList(4, 6, 7, 10),
+                asList(0, 5, 8, 10), asList(1, 5, 8, 10), asList(2, 5, 8, 10), asList(3, 5, 8, 10), asList(4, 5, 8, 10),
+                asList(0, 6, 8, 10), asList(1, 6, 8, 10), asList(2, 6, 8, 10), asList(3, 6, 8, 10), asList(4, 6, 8, 10),
+                asList(0, 5, 9, 10), asList(1, 5, 9, 10), asList(2, 5, 9, 10), asList(3, 5, 9, 10), asList(4, 5, 9, 10),
+                asList(0, 6, 9, 10), asList(1, 6, 9, 10), asList(2, 6, 9, 10), asList(3, 6, 9, 10), asList(4, 6, 9, 10),
+                asList(0, 5, 7, 11), asList(1, 5, 7, 11), asList(2, 5, 7, 11), asList(3, 5, 7, 11), asList(4, 5, 7, 11),
+                asList(0, 6, 7, 11), asList(1, 6, 7, 11), asList(2, 6, 7, 11), asList(3, 6, 7, 11), asList(4, 6, 7, 11),
+                asList(0, 5, 8, 11), asList(1, 5, 8, 11), asList(2, 5, 8, 11), asList(3, 5, 8, 11), asList(4, 5, 8, 11),
+                asList(0, 6, 8, 11), asList(1, 6, 8, 11), asList(2, 6, 8, 11), asList(3, 6, 8, 11), asList(4, 6, 8, 11),
+                asList(0, 5, 9, 11), asList(1, 5, 9, 11), asList(2, 5, 9, 11), asList(3, 5, 9, 11), asList(4, 5, 9, 11),
+                asList(0, 6, 9, 11), asList(1, 6, 9, 11), asList(2, 6, 9, 11), asList(3, 6, 9, 11), asList(4, 6, 9, 11),
+                asList(0, 5, 7, 12), asList(1, 5, 7, 12), asList(2, 5, 7, 12), asList(3, 5, 7, 12), asList(4, 5, 7, 12),
+                asList(0, 6, 7, 12), asList(1, 6, 7, 12), asList(2, 6, 7, 12), asList(3, 6, 7, 12), asList(4, 6, 7, 12),
+                asList(0, 5, 8, 12), asList(1, 5, 8, 12), asList(2, 5, 8, 12), asList(3, 5, 8, 12), asList(4, 5, 8, 12),
+                asList(0, 6, 8, 12), asList(1, 6, 8, 12), asList(2, 6, 8, 12), asList(3, 6, 8, 12), asList(4, 6, 8, 12),
+                asList(0, 5, 9, 12), asList(1, 5, 9, 12), asList(2, 5, 9, 12), asList(3, 5, 9, 12), asList(4, 5, 9, 12),
+                asList(0, 6, 9, 12), asList(1, 6, 9, 12), asList(2, 6, 9, 12), asList(3, 6, 9, 12), asList(4, 6, 9, 12)
+            ),
+            result);
+    }
+
+    @Test public void manySourcesOfEqualSize() {
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(
+                asList(
+                    asList(0, 1, 2),
+                    asList(0, 1, 2),
+                    asList(0, 1, 2)));
+
+        List<List<Integer>> result = tuples(product);
+
+        assertEquals(
+            asList(
+                asList(0, 0, 0), asList(1, 0, 0), asList(2, 0, 0),
+                asList(0, 1, 0), asList(1, 1, 0), asList(2, 1, 0),
+                asList(0, 2, 0), asList(1, 2, 0), asList(2, 2, 0),
+                asList(0, 0, 1), asList(1, 0, 1), asList(2, 0, 1),
+                asList(0, 1, 1), asList(1, 1, 1), asList(2, 1, 1),
+                asList(0, 2, 1), asList(1, 2, 1), asList(2, 2, 1),
+                asList(0, 0, 2), asList(1, 0, 2), asList(2, 0, 2),
+                asList(0, 1, 2), asList(1, 1, 2), asList(2, 1, 2),
+                asList(0, 2, 2), asList(1, 2, 2), asList(2, 2, 2)),
+            result);
+    }
+
+    @Test public void addressesTuplesByIndex() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+
+        assertEquals(90, product.size());
+        assertEquals(asList(0, 5, 7, 10), product.get(0));
+        assertEquals(asList(3, 6, 8, 11), product.get(48));
+        assertEquals(asList(4, 6, 9, 12), product.get(89));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexTooLarge() {
+        manyOfMany().get(90);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void negativeIndex() {
+        manyOfMany().get(-1);
+    }
+
+    @Test public void resumesFromIndex() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+
+        List<List<Integer>> rest =
+            StreamSupport.stream(product.spliterator(85), false)
+                .collect(toList());
+
+        assertEquals(tuples(product).subList(85, 90), rest);
+    }
+
+    @Test public void resumesFromEnd() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+
+        assertEquals(0, product.spliterator(90).estimateSize());
+    }
+
+    @Test public void splitsIndexSpaceInOrder() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+        Spliterator<List<Integer>> suffix = product.spliterator(3);
+
+        Spliterator<List<Integer>> prefix = suffix.trySplit();
+
+        assertEquals(43, prefix.estimateSize());
+        assertEquals(44, suffix.estimateSize());
+        List<List<Integer>> traversed = new ArrayList<>();
+        prefix.forEachRemaining(traversed::add);
+        suffix.forEachRemaining(traversed::add);
+        assertEquals(tuples(product).subList(3, 90), traversed);
+    }
+
+    @Test public void splitsDownToSingleTuples() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+        Spliterator<List<Integer>> single = product.spliterator(89);
+
+        assertNull(single.trySplit());
+    }
+
+    @Test public void traversesInParallel() {
+        CartesianEnumerator<Integer> product = manyOfMany();
+
+        assertEquals(
+            tuples(product),
+            StreamSupport.stream(product.spliterator(), true)
+                .collect(toList()));
+    }
+
+    @Test public void saturatesHugeProducts() {
+        List<Integer> digits = asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        List<List<Integer>> domains = new ArrayList<>();
+        for (int i = 0; i < 20; ++i)
+            domains.add(digits);
+
+        CartesianEnumerator<Integer> product =
+            new CartesianEnumerator<>(domains);
+
+        assertEquals(Long.MAX_VALUE, product.size());
+        assertEquals(
+            asList(2, 1, 0, 0, 0, 0, 0, 0, 0, 0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+            product.get(12));
+    }
+
+    private static CartesianEnumerator<Integer> manyOfMany() {
+        return new CartesianEnumerator<>(
+            asList(
+                asList(0, 1, 2, 3, 4),
+                asList(5, 6),
+                asList(7, 8, 9),
+                asList(10, 11, 12)));
+    }
+
+    private static List<List<Integer>> tuples(
+        CartesianEnumerator<Integer> product) {
+
+        return StreamSupport.stream(product.spliterator(), false)
+            .collect(toList());
+    }
+}
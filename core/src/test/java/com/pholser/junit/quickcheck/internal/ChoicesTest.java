@@ -0,0 +1,129 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ChoicesTest {
+    @Test public void replayingRecordedChoicesGivesSameValues() {
+        Choices recording = Choices.recording();
+        recording.setSeed(271828L);
+        recording.rewind();
+        long first = recording.nextLong(0, 1_000_000);
+        boolean second = recording.nextBoolean();
+        double third = recording.nextDouble(-1, 1);
+
+        Choices replaying = Choices.replaying(recording.drawn());
+
+        assertEquals(first, replaying.nextLong(0, 1_000_000));
+        assertEquals(second, replaying.nextBoolean());
+        assertEquals(third, replaying.nextDouble(-1, 1), 0);
+        assertArrayEquals(recording.drawn(), replaying.drawn());
+    }
+
+    @Test public void recordsBoundedDrawsAsOffsets() {
+        Choices recording = Choices.recording();
+        int value = recording.nextInt(10, 20);
+
+        assertArrayEquals(new int[] { value - 10 }, recording.drawn());
+    }
+
+    @Test public void replaysOffsetsWithinBounds() {
+        assertEquals(13, Choices.replaying(new int[] { 3 }).nextInt(10, 20));
+        assertEquals(12, Choices.replaying(new int[] { 13 }).nextInt(10, 20));
+    }
+
+    @Test public void rewindingForgetsChoicesDrawn() {
+        Choices recording = Choices.recording();
+        recording.nextInt();
+        recording.rewind();
+
+        assertArrayEquals(new int[0], recording.drawn());
+    }
+
+    @Test public void replayingGivesZerosOnceChoicesRunOut() {
+        Choices replaying = Choices.replaying(new int[] { 7 });
+
+        assertEquals(7, replaying.nextInt());
+        assertEquals(0, replaying.nextInt());
+        assertArrayEquals(new int[] { 7, 0 }, replaying.drawn());
+    }
+
+    @Test public void replayingMasksChoicesToBitsDrawn() {
+        Choices replaying = Choices.replaying(new int[] { -1 });
+
+        assertTrue(replaying.nextBoolean());
+        assertArrayEquals(new int[] { 1 }, replaying.drawn());
+    }
+
+    @Test(expected = Choices.ExhaustedException.class)
+    public void replayingStopsGeneratorsThatDrawTooManyChoices() {
+        Choices replaying = Choices.replaying(new int[0]);
+
+        replaying.nextGaussian();
+    }
+
+    @Test public void shrinksDropChoicesFirst() {
+        List<int[]> shrinks =
+            Choices.shrinks(new int[] { 5, 6 }).collect(toList());
+
+        assertArrayEquals(new int[0], shrinks.get(0));
+        assertArrayEquals(new int[] { 6 }, shrinks.get(1));
+        assertArrayEquals(new int[] { 5 }, shrinks.get(2));
+    }
+
+    @Test public void shrinksThenReduceChoicesOneByOne() {
+        List<int[]> shrinks =
+            Choices.shrinks(new int[] { 5, 0 }).skip(3).collect(toList());
+
+        assertEquals(4, shrinks.size());
+        assertArrayEquals(new int[] { 0, 0 }, shrinks.get(0));
+        assertArrayEquals(new int[] { 2, 0 }, shrinks.get(1));
+        assertArrayEquals(new int[] { 1, 0 }, shrinks.get(2));
+        assertArrayEquals(new int[] { 4, 0 }, shrinks.get(3));
+    }
+
+    @Test public void shorterChoicesAreSimpler() {
+        assertTrue(Choices.simpler(new int[] { 9 }, new int[] { 0, 0 }));
+        assertFalse(Choices.simpler(new int[] { 0, 0 }, new int[] { 9 }));
+    }
+
+    @Test public void choicesCloserToZeroAreSimpler() {
+        assertTrue(Choices.simpler(new int[] { 1, 9 }, new int[] { -2, 0 }));
+        assertFalse(Choices.simpler(new int[] { 3 }, new int[] { 3 }));
+        assertTrue(
+            Choices.simpler(
+                new int[] { Integer.MAX_VALUE },
+                new int[] { Integer.MIN_VALUE }));
+    }
+}
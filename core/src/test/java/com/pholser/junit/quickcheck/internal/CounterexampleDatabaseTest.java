@@ -0,0 +1,160 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.internal.CounterexampleDatabase.Entry;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CounterexampleDatabaseTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private CounterexampleDatabase database;
+
+    @Before public void beforeEach() {
+        directory = folder.getRoot().toPath().resolve("counterexamples");
+        database = new CounterexampleDatabase(directory, 3);
+    }
+
+    @Test public void noEntriesForUnknownProperty() {
+        assertEquals(emptyList(), database.entriesFor("a.B#c"));
+    }
+
+    @Test public void mostRecentEntriesFirst() {
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+        database.record("a.B#c", new Entry(2, new long[] {20}));
+
+        assertEquals(
+            asList(
+                new Entry(2, new long[] {20}),
+                new Entry(1, new long[] {10})),
+            database.entriesFor("a.B#c"));
+    }
+
+    @Test public void recordingKnownEntryMovesItToFront() {
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+        database.record("a.B#c", new Entry(2, new long[] {20}));
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+
+        assertEquals(
+            asList(
+                new Entry(1, new long[] {10}),
+                new Entry(2, new long[] {20})),
+            database.entriesFor("a.B#c"));
+    }
+
+    @Test public void evictsOldestEntriesBeyondCapacity() {
+        for (long trial = 0; trial < 5; ++trial)
+            database.record("a.B#c", new Entry(trial, new long[] {trial, -1}));
+
+        assertEquals(
+            asList(
+                new Entry(4, new long[] {4, -1}),
+                new Entry(3, new long[] {3, -1}),
+                new Entry(2, new long[] {2, -1})),
+            database.entriesFor("a.B#c"));
+    }
+
+    @Test public void keepsPropertiesApart() {
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+        database.record("a.B#d", new Entry(2, new long[0]));
+
+        assertEquals(
+            asList(new Entry(1, new long[] {10})),
+            database.entriesFor("a.B#c"));
+        assertEquals(
+            asList(new Entry(2, new long[0])),
+            database.entriesFor("a.B#d"));
+    }
+
+    @Test public void removingLastEntryRemovesFile() throws Exception {
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+        database.remove("a.B#c", new Entry(1, new long[] {10}));
+
+        assertEquals(emptyList(), database.entriesFor("a.B#c"));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test public void damagedFileHasNoEntries() throws Exception {
+        database.record("a.B#c", new Entry(1, new long[] {10}));
+        File[] files = directory.toFile().listFiles();
+        assertEquals(1, files.length);
+        Files.write(files[0].toPath(), new byte[] {1, 2, 3});
+
+        assertEquals(emptyList(), database.entriesFor("a.B#c"));
+    }
+
+    @Test public void configuredBySystemProperty() {
+        assertEquals(null, CounterexampleDatabase.configured());
+
+        System.setProperty(
+            CounterexampleDatabase.LOCATION,
+            directory.toString());
+        try {
+            CounterexampleDatabase configured =
+                CounterexampleDatabase.configured();
+            configured.record("a.B#c", new Entry(1, new long[] {10}));
+
+            assertTrue(Files.isDirectory(directory));
+            assertEquals(
+                asList(new Entry(1, new long[] {10})),
+                database.entriesFor("a.B#c"));
+        } finally {
+            System.clearProperty(CounterexampleDatabase.LOCATION);
+        }
+    }
+
+    @Test public void rejectsNegativeCapacity() {
+        System.setProperty(
+            CounterexampleDatabase.LOCATION,
+            directory.toString());
+        System.setProperty(CounterexampleDatabase.CAPACITY, "-1");
+        try {
+            assertThrows(
+                IllegalArgumentException.class,
+                CounterexampleDatabase::configured);
+        } finally {
+            System.clearProperty(CounterexampleDatabase.CAPACITY);
+            System.clearProperty(CounterexampleDatabase.LOCATION);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class CoveringArrayTest {
+    @Test public void noParameters() {
+        assertEquals(
+            0,
+            new CoveringArray(new int[0], 2, new Random(1)).rows().size());
+    }
+
+    @Test public void emptyDomain() {
+        assertEquals(
+            0,
+            new CoveringArray(new int[] {2, 0, 3}, 2, new Random(1))
+                .rows()
+                .size());
+    }
+
+    @Test public void strengthOneCoversEachValue() {
+        int[] radices = {2, 5, 3};
+
+        List<int[]> rows = new CoveringArray(radices, 1, new Random(2)).rows();
+
+        assertEquals(5, rows.size());
+        assertCovers(radices, 1, rows);
+    }
+
+    @Test public void pairwiseOverManyBooleans() {
+        int[] radices = new int[10];
+        Arrays.fill(radices, 2);
+
+        List<int[]> rows = new CoveringArray(radices, 2, new Random(3)).rows();
+
+        assertCovers(radices, 2, rows);
+        assertThat(rows.size(), lessThanOrEqualTo(12));
+    }
+
+    @Test public void pairwiseOverMixedDomains() {
+        int[] radices = {3, 4, 2, 5, 3, 2, 4};
+
+        List<int[]> rows = new CoveringArray(radices, 2, new Random(4)).rows();
+
+        assertCovers(radices, 2, rows);
+        assertThat(rows.size(), lessThanOrEqualTo(30));
+    }
+
+    @Test public void threeWay() {
+        int[] radices = {3, 3, 3, 3, 3, 3};
+
+        List<int[]> rows = new CoveringArray(radices, 3, new Random(5)).rows();
+
+        assertCovers(radices, 3, rows);
+        assertThat(rows.size(), lessThanOrEqualTo(60));
+    }
+
+    @Test public void strengthBeyondParametersGivesCrossProduct() {
+        int[] radices = {2, 3};
+
+        List<int[]> rows = new CoveringArray(radices, 5, new Random(6)).rows();
+
+        assertEquals(6, rows.size());
+        assertCovers(radices, 2, rows);
+    }
+
+    @Test public void sameRandomnessSameRows() {
+        int[] radices = {3, 2, 4, 2, 3};
+
+        List<int[]> first = new CoveringArray(radices, 2, new Random(7)).rows();
+        List<int[]> second =
+            new CoveringArray(radices, 2, new Random(7)).rows();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); ++i)
+            assertTrue(Arrays.equals(first.get(i), second.get(i)));
+    }
+
+    private static void assertCovers(
+        int[] radices,
+        int strength,
+        List<int[]> rows) {
+
+        for (int[] row : rows) {
+            assertEquals(radices.length, row.length);
+            for (int i = 0; i < row.length; ++i)
+                assertTrue(row[i] >= 0 && row[i] < radices[i]);
+        }
+
+        assertCovers(radices, strength, rows, new int[strength], 0, 0);
+    }
+
+    private static void assertCovers(
+        int[] radices,
+        int strength,
+        List<int[]> rows,
+        int[] subset,
+        int position,
+        int from) {
+
+        if (position == strength) {
+            int combinations = 1;
+            for (int member : subset)
+                combinations *= radices[member];
+
+            Set<List<Integer>> seen = new HashSet<>();
+            for (int[] row : rows) {
+                Integer[] values = new Integer[strength];
+                for (int i = 0; i < strength; ++i)
+                    values[i] = row[subset[i]];
+                seen.add(Arrays.asList(values));
+            }
+            assertEquals(
+                "combinations of " + Arrays.toString(subset),
+                combinations,
+                seen.size());
+            return;
+        }
+
+        for (int i = from; i < radices.length; ++i) {
+            subset[position] = i;
+            assertCovers(radices, strength, rows, subset, position + 1, i + 1);
+        }
+    }
+}
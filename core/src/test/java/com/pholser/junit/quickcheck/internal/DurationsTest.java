@@ -0,0 +1,61 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Durations.parse;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class DurationsTest {
+    @Test public void empty() {
+        assertEquals(Duration.ZERO, parse(""));
+        assertEquals(Duration.ZERO, parse("  "));
+    }
+
+    @Test public void shorthand() {
+        assertEquals(Duration.ofMillis(250), parse("250ms"));
+        assertEquals(Duration.ofSeconds(30), parse("30s"));
+        assertEquals(Duration.ofMinutes(5), parse("5m"));
+        assertEquals(Duration.ofHours(2), parse(" 2 h "));
+        assertEquals(Duration.ofDays(1), parse("1d"));
+    }
+
+    @Test public void iso8601() {
+        assertEquals(Duration.ofSeconds(90), parse("PT1M30S"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unrecognized() {
+        parse("thirty seconds");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeShorthand() {
+        parse("-5s");
+    }
+}
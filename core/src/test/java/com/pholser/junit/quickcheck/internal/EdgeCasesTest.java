@@ -0,0 +1,70 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class EdgeCasesTest {
+    private static final List<String> ITEMS = asList("a", "z");
+    private static final Supplier<Stream<String>> FILL =
+        () -> Stream.generate(() -> "f");
+
+    @Test public void emptySingletonsAndLongest() {
+        assertEquals(
+            asList(
+                emptyList(),
+                singletonList("a"),
+                singletonList("z"),
+                asList("f", "f", "f")),
+            EdgeCases.sequences(0, 3, ITEMS, FILL));
+    }
+
+    @Test public void filledSingletonWithoutEdgeItems() {
+        assertEquals(
+            asList(emptyList(), singletonList("f")),
+            EdgeCases.sequences(0, 1, emptyList(), FILL));
+    }
+
+    @Test public void leastLengthBeyondOne() {
+        assertEquals(
+            asList(asList("f", "f"), asList("f", "f", "f")),
+            EdgeCases.sequences(2, 3, ITEMS, FILL));
+    }
+
+    @Test public void singleLength() {
+        assertEquals(
+            singletonList(asList("f", "f")),
+            EdgeCases.sequences(2, 2, ITEMS, FILL));
+    }
+}
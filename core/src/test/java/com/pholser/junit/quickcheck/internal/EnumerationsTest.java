@@ -0,0 +1,98 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class EnumerationsTest {
+    private static final IntFunction<Stream<String>> ITEMS =
+        k -> k < 2 ? Stream.of("x" + k) : Stream.empty();
+
+    @Test public void emptySequence() {
+        assertEquals(
+            singletonList(emptyList()),
+            Enumerations.sequences(0, 5, ITEMS).collect(toList()));
+    }
+
+    @Test public void sequencesCountLengthAndItemSizes() {
+        assertEquals(
+            asList(asList("x0", "x0"), singletonList("x1")),
+            Enumerations.sequences(2, 5, ITEMS).collect(toList()));
+        assertEquals(
+            asList(
+                asList("x0", "x0", "x0"),
+                asList("x0", "x1"),
+                asList("x1", "x0")),
+            Enumerations.sequences(3, 5, ITEMS).collect(toList()));
+    }
+
+    @Test public void sequencesNoLongerThanMaximum() {
+        assertEquals(
+            singletonList(singletonList("x1")),
+            Enumerations.sequences(2, 1, ITEMS).collect(toList()));
+        assertEquals(
+            emptyList(),
+            Enumerations.sequences(3, 1, ITEMS).collect(toList()));
+    }
+
+    @Test public void noSources() {
+        assertEquals(
+            singletonList(emptyList()),
+            Enumerations.tuples(0, emptyList()).collect(toList()));
+        assertEquals(
+            emptyList(),
+            Enumerations.tuples(1, emptyList()).collect(toList()));
+    }
+
+    @Test public void tuplesSumItemSizes() {
+        List<IntFunction<Stream<String>>> sources =
+            asList(
+                k -> k <= 1 ? Stream.of("a" + k) : Stream.empty(),
+                k -> k % 2 == 0 ? Stream.of("b" + k) : Stream.empty());
+
+        assertEquals(
+            singletonList(asList("a0", "b0")),
+            Enumerations.tuples(0, sources).collect(toList()));
+        assertEquals(
+            singletonList(asList("a1", "b0")),
+            Enumerations.tuples(1, sources).collect(toList()));
+        assertEquals(
+            singletonList(asList("a0", "b2")),
+            Enumerations.tuples(2, sources).collect(toList()));
+        assertEquals(
+            singletonList(asList("a1", "b2")),
+            Enumerations.tuples(3, sources).collect(toList()));
+    }
+}
@@ -28,14 +28,19 @@ package com.pholser.junit.quickcheck.internal;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assume.assumeThat;
 
+import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -113,4 +118,111 @@ public class ListsTest {
                 newArrayList(1, 2, 5)),
             shrinks);
     }
+
+    @Test public void lazyShrinksOfEmptyList() {
+        assertEquals(
+            emptyList(),
+            Lists.shrinksOfOneItemLazily(random, emptyList(), null)
+                .collect(toList()));
+    }
+
+    @Test public void lazyShrinksOfNonEmptyList() {
+        List<List<Integer>> shrinks =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                newArrayList(1, 2, 3),
+                (r, i) -> {
+                    assumeThat(r, sameInstance(random));
+                    return newArrayList(4, 5);
+                })
+                .collect(toList());
+
+        assertEquals(
+            Lists.shrinksOfOneItem(
+                random,
+                newArrayList(1, 2, 3),
+                (r, i) -> newArrayList(4, 5)),
+            shrinks);
+    }
+
+    @Test public void lazyShrinksAreProducedOnDemand() {
+        List<List<Integer>> shrinks =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                newArrayList(1, 2, 3),
+                new Shrink<Integer>() {
+                    @Override public List<Integer> shrink(
+                        SourceOfRandomness r,
+                        Object larger) {
+
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override public Stream<Integer> shrinkLazily(
+                        SourceOfRandomness r,
+                        Object larger) {
+
+                        return Stream.iterate(0, i -> i + 1);
+                    }
+                })
+                .limit(3)
+                .collect(toList());
+
+        assertEquals(
+            newArrayList(
+                newArrayList(0, 2, 3),
+                newArrayList(1, 2, 3),
+                newArrayList(2, 2, 3)),
+            shrinks);
+    }
+
+    @Test public void shrinksOfLongList() {
+        List<Integer> target = new ArrayList<>(nCopies(100_000, 1));
+        target.set(99_999, 2);
+
+        List<List<Integer>> shrinks =
+            Lists.shrinksOfOneItem(
+                random,
+                target,
+                (r, i) -> i.equals(2) ? singletonList(0) : emptyList());
+
+        List<Integer> expected = new ArrayList<>(nCopies(100_000, 1));
+        expected.set(99_999, 0);
+        assertEquals(singletonList(expected), shrinks);
+    }
+
+    @Test public void lazyShrinksOfLongList() {
+        List<Integer> target = nCopies(100_000, 1);
+
+        List<List<Integer>> shrinks =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                target,
+                (r, i) -> singletonList(0))
+                .skip(99_999)
+                .collect(toList());
+
+        assertEquals(1, shrinks.size());
+        assertEquals(100_000, shrinks.get(0).size());
+        assertEquals(Integer.valueOf(0), shrinks.get(0).get(99_999));
+        assertEquals(Integer.valueOf(1), shrinks.get(0).get(99_998));
+    }
+
+    @Test public void lazyShrinksAreUnmodifiableViews() {
+        List<Integer> target = newArrayList(1, 2, 3);
+
+        List<Integer> shrink =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                target,
+                (r, i) -> singletonList(0))
+                .findFirst()
+                .get();
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> shrink.set(1, 5));
+        assertEquals(newArrayList(0, 2, 3), shrink);
+        assertEquals(newArrayList(1, 2, 3), target);
+    }
 }
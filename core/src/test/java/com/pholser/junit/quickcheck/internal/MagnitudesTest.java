@@ -0,0 +1,64 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.TEN;
+import static java.math.BigDecimal.ZERO;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.comparesEqualTo;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class MagnitudesTest {
+    @Test public void sumOfNone() {
+        assertThat(Magnitudes.sum(Stream.empty()), comparesEqualTo(ZERO));
+    }
+
+    @Test public void sumOfSome() {
+        assertThat(
+            Magnitudes.sum(Stream.of(ONE, TEN, new BigDecimal("0.5"))),
+            comparesEqualTo(new BigDecimal("11.5")));
+    }
+
+    @Test public void sumBeyondRangeOfDouble() {
+        BigDecimal huge = BigDecimal.valueOf(Double.MAX_VALUE);
+
+        assertThat(
+            Magnitudes.sum(Stream.of(huge, huge, ONE)),
+            comparesEqualTo(huge.add(huge).add(ONE)));
+    }
+
+    @Test public void sumOfMagnitudeBeyondRangeOfDouble() {
+        BigDecimal huger = new BigDecimal("1e400");
+
+        assertThat(
+            Magnitudes.sum(Stream.of(TEN, huger)),
+            comparesEqualTo(huger.add(TEN)));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class PipelineTest {
+    @Test public void emptySource() {
+        try (Pipeline<Integer> pipeline =
+            new Pipeline<>(emptyIterator(), 2, "test")) {
+
+            assertFalse(pipeline.hasNext());
+        }
+    }
+
+    @Test public void preservesSourceOrder() {
+        List<Integer> items = newArrayList(IntStream.range(0, 1000).iterator());
+
+        try (Pipeline<Integer> pipeline =
+            new Pipeline<>(items.iterator(), 3, "test")) {
+
+            assertEquals(items, newArrayList(pipeline));
+        }
+    }
+
+    @Test public void producesOnAnotherThread() {
+        Thread consumer = Thread.currentThread();
+        Iterator<Thread> producers =
+            Stream.generate(Thread::currentThread).limit(5).iterator();
+
+        try (Pipeline<Thread> pipeline = new Pipeline<>(producers, 2, "test")) {
+            pipeline.forEachRemaining(t -> assertNotSame(consumer, t));
+        }
+    }
+
+    @Test public void producesNoFurtherThanCapacityAhead() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        Iterator<Integer> source =
+            Stream.generate(produced::incrementAndGet).iterator();
+
+        try (Pipeline<Integer> pipeline = new Pipeline<>(source, 4, "test")) {
+            assertEquals(Integer.valueOf(1), pipeline.next());
+            Thread.sleep(100);
+
+            assertTrue(produced.get() <= 6);
+        }
+    }
+
+    @Test public void rethrowsFailureOfSourceInPlace() {
+        IllegalStateException failure = new IllegalStateException();
+        Iterator<Integer> source =
+            Stream.<Integer> iterate(1, i -> {
+                if (i == 2)
+                    throw failure;
+                return i + 1;
+            }).iterator();
+
+        try (Pipeline<Integer> pipeline = new Pipeline<>(source, 4, "test")) {
+            assertEquals(asList(1, 2), asList(pipeline.next(), pipeline.next()));
+
+            pipeline.next();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertSame(failure, expected);
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void exhausted() {
+        try (Pipeline<Integer> pipeline =
+            new Pipeline<>(asList(1).iterator(), 1, "test")) {
+
+            pipeline.next();
+            pipeline.next();
+        }
+    }
+
+    @Test public void closingStopsAnInfiniteSource() {
+        Pipeline<Integer> pipeline =
+            new Pipeline<>(Stream.generate(() -> 1).iterator(), 2, "test");
+
+        pipeline.next();
+        pipeline.close();
+    }
+}
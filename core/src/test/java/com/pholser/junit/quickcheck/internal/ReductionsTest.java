@@ -0,0 +1,101 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ReductionsTest {
+    @Test public void reducingEmptyList() {
+        assertEquals(
+            emptyList(),
+            Reductions.ddmin(emptyList()).collect(toList()));
+    }
+
+    @Test public void singletonListReducesOnlyToEmpty() {
+        assertEquals(
+            singletonList(emptyList()),
+            Reductions.ddmin(singletonList(1)).collect(toList()));
+    }
+
+    @Test public void twoItems() {
+        assertEquals(
+            newArrayList(
+                emptyList(),
+                singletonList(2),
+                singletonList(1)),
+            Reductions.ddmin(newArrayList(1, 2)).collect(toList()));
+    }
+
+    @Test public void chunksThenComplementsAtEachGranularity() {
+        assertEquals(
+            newArrayList(
+                emptyList(),
+                newArrayList(3, 4, 5),
+                newArrayList(1, 2),
+                newArrayList(1),
+                newArrayList(2),
+                newArrayList(3),
+                newArrayList(4, 5),
+                newArrayList(2, 3, 4, 5),
+                newArrayList(1, 3, 4, 5),
+                newArrayList(1, 2, 4, 5),
+                newArrayList(1, 2, 3),
+                newArrayList(1),
+                newArrayList(2),
+                newArrayList(3),
+                newArrayList(4),
+                newArrayList(5),
+                newArrayList(2, 3, 4, 5),
+                newArrayList(1, 3, 4, 5),
+                newArrayList(1, 2, 4, 5),
+                newArrayList(1, 2, 3, 5),
+                newArrayList(1, 2, 3, 4)),
+            Reductions.ddmin(newArrayList(1, 2, 3, 4, 5)).collect(toList()));
+    }
+
+    @Test public void producesReductionsOnDemand() {
+        List<Integer> huge = nCopies(100_000_000, 7);
+
+        List<List<Integer>> first =
+            Reductions.ddmin(huge).limit(1).collect(toList());
+
+        assertEquals(singletonList(emptyList()), first);
+    }
+
+    @Test public void numberOfReductionsIsLinearInSize() {
+        assertEquals(
+            1 + 2 + 2 * (2 * 1024 - 4),
+            Reductions.ddmin(nCopies(1024, 7)).count());
+    }
+}
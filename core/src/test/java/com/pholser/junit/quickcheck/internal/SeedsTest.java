@@ -0,0 +1,57 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Seeds.forTrial;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class SeedsTest {
+    @Test public void firstTrialUsesMasterSeed() {
+        assertEquals(-1L, forTrial(-1L, 0));
+        assertEquals(12345L, forTrial(12345L, 0));
+    }
+
+    @Test public void laterTrialsAreDeterministic() {
+        assertEquals(forTrial(12345L, 7342), forTrial(12345L, 7342));
+    }
+
+    @Test public void laterTrialsDiffer() {
+        Set<Long> seeds = new HashSet<>();
+        for (long trial = 0; trial < 10_000; ++trial)
+            seeds.add(forTrial(12345L, trial));
+
+        assertEquals(10_000, seeds.size());
+    }
+
+    @Test public void differentMastersGiveDifferentTrialSeeds() {
+        assertNotEquals(forTrial(1L, 1), forTrial(2L, 1));
+    }
+}
@@ -26,6 +26,8 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
@@ -33,6 +35,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.Test;
 
 public class SequencesTest {
@@ -114,4 +119,36 @@ public class SequencesTest {
 
         assertThrows(NoSuchElementException.class, i::next);
     }
+
+    @Test public void flatMappingLazily() {
+        assertEquals(
+            asList(1, 2, 2, 3, 3, 3),
+            Sequences.flatMapLazily(
+                Stream.of(0, 1, 2, 3),
+                i -> IntStream.range(0, i).mapToObj(j -> i))
+                .collect(toList()));
+    }
+
+    @Test public void flatMappingDrawsOnlyWhatIsAsked() {
+        AtomicInteger drawn = new AtomicInteger();
+        Iterator<Integer> i =
+            Sequences.flatMapLazily(
+                Stream.of(10, 20),
+                n -> IntStream.range(0, n)
+                    .peek(k -> drawn.incrementAndGet())
+                    .boxed())
+                .iterator();
+        i.next();
+        i.next();
+
+        assertEquals(2, drawn.get());
+    }
+
+    @Test public void callingNextOutOfSequenceOnLazyFlatMapping() {
+        Iterator<Integer> i =
+            Sequences.flatMapLazily(Stream.of(1), Stream::of).iterator();
+        i.next();
+
+        assertThrows(NoSuchElementException.class, i::next);
+    }
 }
@@ -85,6 +85,7 @@ public class CompositeGeneratorTest {
         when(third.canShrink(7)).thenReturn(true);
         when(first.types()).thenReturn(singletonList(Integer.class));
         when(first.doShrink(random, 7)).thenReturn(asList(3, 6));
+        when(first.doShrinkLazily(random, 7)).thenCallRealMethod();
         when(random.nextInt(9)).thenReturn(1);
 
         assertEquals(asList(3, 6), composite.shrink(random, 7));
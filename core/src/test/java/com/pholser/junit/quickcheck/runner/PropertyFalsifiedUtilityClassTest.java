@@ -58,6 +58,8 @@ public class PropertyFalsifiedUtilityClassTest
                 propertyName,
                 arguments,
                 seeds,
+                -1,
+                new long[0],
                 error);
 
         String expected =
@@ -80,6 +82,8 @@ public class PropertyFalsifiedUtilityClassTest
                 propertyName,
                 arguments,
                 seeds,
+                -1,
+                new long[0],
                 error);
 
         String expected =
@@ -106,6 +110,8 @@ public class PropertyFalsifiedUtilityClassTest
                 originalArguments,
                 arguments,
                 seeds,
+                -1,
+                new long[0],
                 smallerFailure,
                 originalFailure);
 
@@ -136,6 +142,8 @@ public class PropertyFalsifiedUtilityClassTest
                 originalArguments,
                 arguments,
                 seeds,
+                -1,
+                new long[0],
                 smallerFailure,
                 originalFailure);
 
@@ -165,6 +173,8 @@ public class PropertyFalsifiedUtilityClassTest
                 originalArguments,
                 arguments,
                 seeds,
+                -1,
+                new long[0],
                 smallerFailure,
                 originalFailure);
 
@@ -178,6 +188,49 @@ public class PropertyFalsifiedUtilityClassTest
         assertThat(actual.getMessage(), equalTo(expected));
     }
 
+    @Test public void counterexampleFoundInTrial() {
+        AssertionError actual =
+            PropertyFalsified.counterexampleFound(
+                "mySuperProperty",
+                new String[] {"first", "second"},
+                new long[] {12345, 8842},
+                7342,
+                new long[] {-3, 99},
+                new AssertionError());
+
+        String expected =
+            format(
+                "Property named 'mySuperProperty' failed:%n"
+                    + "With arguments: [first, second]%n"
+                    + "Seeds for reproduction: [12345, 8842]%n"
+                    + "Trial for reproduction: 7342,"
+                    + " with trial seeds [-3, 99]");
+        assertThat(actual.getMessage(), equalTo(expected));
+    }
+
+    @Test public void smallerCounterexampleFoundInTrial() {
+        AssertionError actual =
+            PropertyFalsified.smallerCounterexampleFound(
+                "mySuperProperty",
+                new String[] {"first", "second"},
+                new String[] {"first"},
+                new long[] {12345},
+                0,
+                new long[] {12345},
+                new AssertionError(),
+                new AssertionError());
+
+        String expected =
+            format(
+                "Property named 'mySuperProperty' failed:%n"
+                    + "With arguments: [first]%n"
+                    + "First arguments found to also provoke a failure: "
+                    + "[first, second]%n"
+                    + "Seeds for reproduction: [12345]%n"
+                    + "Trial for reproduction: 0, with trial seeds [12345]");
+        assertThat(actual.getMessage(), equalTo(expected));
+    }
+
     @Test public void github_212_failWithIllegalFormatSpecifierInMessage() {
         assertThat(
             testResult(Failing.class),
@@ -0,0 +1,105 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.stateful.HistoryTest.Increment;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class CommandsTest {
+    @Test public void validWhenPreconditionsHoldInEveryInterleaving() {
+        List<Command<Integer, AtomicInteger>> branch =
+            nCopies(8, new IncrementBelow(32));
+
+        assertTrue(commands(emptyList(), nCopies(4, branch)).valid());
+    }
+
+    @Test public void invalidWhenSomeInterleavingBreaksAPrecondition() {
+        List<Command<Integer, AtomicInteger>> branch =
+            nCopies(8, new IncrementBelow(31));
+
+        assertFalse(commands(emptyList(), nCopies(4, branch)).valid());
+    }
+
+    @Test public void invalidWhenOnlyOneOrderBreaksAPrecondition() {
+        assertFalse(
+            commands(
+                emptyList(),
+                asList(
+                    singletonList(new Increment()),
+                    singletonList(new IncrementBelow(1))))
+                .valid());
+    }
+
+    @Test public void invalidWhenPrefixBreaksAPrecondition() {
+        assertFalse(
+            commands(
+                asList(new Increment(), new IncrementBelow(1)),
+                singletonList(singletonList(new Increment())))
+                .valid());
+    }
+
+    private static Commands<Integer, AtomicInteger> commands(
+        List<Command<Integer, AtomicInteger>> prefix,
+        List<List<Command<Integer, AtomicInteger>>> branches) {
+
+        return new Commands<>(() -> 0, prefix, branches, 1);
+    }
+
+    static final class IncrementBelow
+        implements ConcurrentCommand<Integer, AtomicInteger, Integer> {
+
+        private final int limit;
+
+        IncrementBelow(int limit) {
+            this.limit = limit;
+        }
+
+        @Override public boolean precondition(Integer model) {
+            return model < limit;
+        }
+
+        @Override public Integer next(Integer model) {
+            return model + 1;
+        }
+
+        @Override public Integer execute(AtomicInteger system) {
+            return system.incrementAndGet();
+        }
+
+        @Override public boolean postcondition(Integer model, Integer result) {
+            return result == model + 1;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.stateful;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryTest {
+    private History<Integer, AtomicInteger> history;
+
+    @Before public void beforeEach() {
+        history = new History<>(() -> 0, emptyList(), 2);
+    }
+
+    @Test public void emptyHistoryIsLinearizable() {
+        assertTrue(history.linearizable());
+    }
+
+    @Test public void overlappingIncrementsSeeingDistinctValues() {
+        history.add(0, new Increment(), 2, 1, 3);
+        history.add(1, new Increment(), 1, 2, 4);
+
+        assertTrue(history.linearizable());
+    }
+
+    @Test public void overlappingIncrementsSeeingSameValue() {
+        history.add(0, new Increment(), 1, 1, 3);
+        history.add(1, new Increment(), 1, 2, 4);
+
+        assertFalse(history.linearizable());
+    }
+
+    @Test public void respectsRealTimeOrder() {
+        history.add(0, new Increment(), 2, 1, 2);
+        history.add(1, new Increment(), 1, 3, 4);
+
+        assertFalse(history.linearizable());
+    }
+
+    @Test public void linearizesAfterPrefix() {
+        history = new History<>(() -> 0, singletonList(new Increment()), 2);
+
+        history.add(0, new Increment(), 2, 1, 4);
+        history.add(1, new Read(), 1, 2, 3);
+        history.add(1, new Read(), 2, 5, 6);
+
+        assertTrue(history.linearizable());
+    }
+
+    @Test public void readsMustNotGoBackInTime() {
+        history.add(0, new Increment(), 1, 1, 6);
+        history.add(1, new Read(), 1, 2, 3);
+        history.add(1, new Read(), 0, 4, 5);
+
+        assertFalse(history.linearizable());
+    }
+
+    static final class Increment
+        implements ConcurrentCommand<Integer, AtomicInteger, Integer> {
+
+        @Override public Integer next(Integer model) {
+            return model + 1;
+        }
+
+        @Override public Integer execute(AtomicInteger system) {
+            return system.incrementAndGet();
+        }
+
+        @Override public boolean postcondition(Integer model, Integer result) {
+            return result == model + 1;
+        }
+    }
+
+    static final class Read
+        implements ConcurrentCommand<Integer, AtomicInteger, Integer> {
+
+        @Override public Integer next(Integer model) {
+            return model;
+        }
+
+        @Override public Integer execute(AtomicInteger system) {
+            return system.get();
+        }
+
+        @Override public boolean postcondition(Integer model, Integer result) {
+            return result.equals(model);
+        }
+    }
+}
@@ -37,6 +37,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Base class for generators of integral types, such as {@code int} and
@@ -88,6 +89,65 @@ public abstract class IntegralGenerator<T extends Number>
         return results;
     }
 
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A number's size is its distance from the {@linkplain
+     * #leastMagnitude() number of least magnitude} in the configured
+     * range.</p>
+     */
+    @Override public Stream<T> enumerate(int size) {
+        BigInteger origin = widen().apply(leastMagnitude());
+        BigInteger distance = BigInteger.valueOf(size);
+        Stream<BigInteger> candidates =
+            size == 0
+                ? Stream.of(origin)
+                : Stream.of(origin.add(distance), origin.subtract(distance));
+
+        return candidates
+            .filter(n -> widen().apply(narrow().apply(n)).equals(n))
+            .map(narrow())
+            .filter(inRange());
+    }
+
+    /**
+     * Gives the edge values of a range of numbers: its ends, the numbers
+     * just inside them, and the {@linkplain #leastMagnitude() number of
+     * least magnitude} in it, with its neighbors.
+     *
+     * @param min least number in the range, or {@code null} if the range
+     * has no lower bound
+     * @param max greatest number in the range, or {@code null} if the range
+     * has no upper bound
+     * @return the edge values in the range
+     */
+    protected final List<T> edgeCasesBetween(T min, T max) {
+        BigInteger origin = widen().apply(leastMagnitude());
+        List<BigInteger> candidates = new ArrayList<>();
+        if (min != null)
+            candidates.add(widen().apply(min));
+        if (max != null)
+            candidates.add(widen().apply(max));
+        candidates.add(origin);
+        candidates.add(origin.add(BigInteger.ONE));
+        candidates.add(origin.subtract(BigInteger.ONE));
+        if (min != null)
+            candidates.add(widen().apply(min).add(BigInteger.ONE));
+        if (max != null)
+            candidates.add(widen().apply(max).subtract(BigInteger.ONE));
+
+        return candidates.stream()
+            .filter(n -> widen().apply(narrow().apply(n)).equals(n))
+            .map(narrow())
+            .filter(inRange())
+            .distinct()
+            .collect(toList());
+    }
+
     /**
      * @return a function converting a value of the base type into a
      * {@link BigInteger}
@@ -25,22 +25,21 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Enumerations.sequences;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Size;
-import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * <p>Base class for generators of values of type {@link String}.</p>
@@ -80,43 +79,93 @@ public abstract class AbstractStringGenerator extends Generator<String> {
         SourceOfRandomness random,
         String larger) {
 
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<String> doShrinkLazily(
+        SourceOfRandomness random,
+        String larger) {
+
         List<Integer> codePoints =
             larger.codePoints().boxed().collect(toList());
-        List<String> shrinks = new ArrayList<>(removals(codePoints));
 
-        List<List<Integer>> oneItemShrinks =
-            shrinksOfOneItem(
+        Stream<List<Integer>> oneItemShrinks =
+            shrinksOfOneItemLazily(
                 random,
                 codePoints,
                 new CodePointShrink(this::codePointInRange));
-        shrinks.addAll(
-            oneItemShrinks.stream()
+
+        return Stream.concat(
+            removals(codePoints).filter(this::inSizeRange),
+            oneItemShrinks
                 .map(this::convert)
                 .filter(this::inSizeRange)
-                .filter(this::codePointsInRange)
-                .collect(toList()));
-
-        return shrinks.stream().filter(this::inSizeRange).collect(toList());
+                .filter(this::codePointsInRange));
     }
 
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value).length());
     }
 
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A string's size is its length plus the {@linkplain
+     * #codePointOfSize(int) sizes} of its code points.</p>
+     */
+    @Override public Stream<String> enumerate(int size) {
+        return sequences(
+            size,
+            sizeRange == null ? Integer.MAX_VALUE : sizeRange.max(),
+            k -> {
+                int codePoint = codePointOfSize(k);
+                return codePoint < 0
+                    ? Stream.<Integer> empty()
+                    : Stream.of(codePoint);
+            })
+            .map(this::convert)
+            .filter(this::inSizeRange);
+    }
+
     protected abstract int nextCodePoint(SourceOfRandomness random);
 
     protected abstract boolean codePointInRange(int codePoint);
 
+    /**
+     * <p>Gives the code point of a given size, for {@linkplain
+     * #enumerate(int) enumerating} strings.</p>
+     *
+     * <p>Unless overridden, the code points {@code a} through {@code z}
+     * have sizes zero through 25, and the other code points
+     * {@linkplain #codePointInRange(int) in range} have greater sizes, in
+     * ascending order. Generators whose code points are costly to find
+     * this way should override this method.</p>
+     *
+     * @param size size of the code point
+     * @return the code point of the given size, or {@code -1} if no code
+     * point has that size
+     */
+    protected int codePointOfSize(int size) {
+        return IntStream.concat(
+            IntStream.rangeClosed('a', 'z'),
+            IntStream.rangeClosed(0, Character.MAX_CODE_POINT)
+                .filter(cp -> cp < 'a' || cp > 'z'))
+            .filter(this::codePointInRange)
+            .skip(size)
+            .findFirst()
+            .orElse(-1);
+    }
+
     private boolean codePointsInRange(String s) {
         return s.codePoints().allMatch(this::codePointInRange);
     }
 
-    private List<String> removals(List<Integer> codePoints) {
-        return stream(halving(codePoints.size()).spliterator(), false)
-            .map(i -> Lists.removeFrom(codePoints, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .collect(toList());
+    private Stream<String> removals(List<Integer> codePoints) {
+        return ddmin(codePoints).map(this::convert);
     }
 
     private String convert(List<Integer> codePoints) {
@@ -132,9 +181,6 @@ public abstract class AbstractStringGenerator extends Generator<String> {
     }
 
     private boolean inSizeRange(String s) {
-        System.out.println(sizeRange);
-        System.out.println(s.length());
-
         return sizeRange == null
             || (s.length() >= sizeRange.min()
                 && s.length() <= sizeRange.max());
@@ -36,6 +36,7 @@ import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@code boolean} or {@link Boolean}.
@@ -62,4 +63,24 @@ public class BooleanGenerator extends Generator<Boolean> {
     @Override public BigDecimal magnitude(Object value) {
         return narrow(value) ? ONE : ZERO;
     }
+
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@code false} has size zero, and {@code true} size one.</p>
+     */
+    @Override public Stream<Boolean> enumerate(int size) {
+        return size <= 1 ? Stream.of(size == 1) : Stream.empty();
+    }
+
+    @Override public List<Boolean> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return asList(false, true);
+    }
 }
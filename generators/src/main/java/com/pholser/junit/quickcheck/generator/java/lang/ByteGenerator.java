@@ -35,6 +35,7 @@ import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -76,6 +77,13 @@ public class ByteGenerator extends IntegralGenerator<Byte> {
         return random.nextByte(min, max);
     }
 
+    @Override public List<Byte> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return edgeCasesBetween(min, max);
+    }
+
     @Override protected Function<BigInteger, Byte> narrow() {
         return BigInteger::byteValue;
     }
@@ -36,6 +36,7 @@ import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@code char} or {@link Character}.
@@ -81,6 +82,24 @@ public class CharacterGenerator extends Generator<Character> {
             .collect(toList());
     }
 
+    @Override public boolean canEnumerate() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The characters {@code a} through {@code z} have sizes zero
+     * through 25; the other characters in the configured range have
+     * greater sizes, in ascending order.</p>
+     */
+    @Override public Stream<Character> enumerate(int size) {
+        int codePoint = CodePointOrder.at(size, min, max);
+        return codePoint < 0
+            ? Stream.empty()
+            : Stream.of((char) codePoint);
+    }
+
     @Override public BigDecimal magnitude(Object value) {
         return BigDecimal.valueOf(narrow(value));
     }
@@ -0,0 +1,63 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator.java.lang;
+
+/**
+ * Orders the code points of an interval for enumeration: the lower-case
+ * letters {@code a} through {@code z} first, then the rest in ascending
+ * order.
+ */
+final class CodePointOrder {
+    private CodePointOrder() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param position a position in the order
+     * @param min least code point of the interval
+     * @param max greatest code point of the interval
+     * @return the code point at the given position, or {@code -1} if the
+     * interval has too few code points
+     */
+    static int at(int position, int min, int max) {
+        int lettersMin = Math.max(min, 'a');
+        int lettersMax = Math.min(max, 'z');
+        if (lettersMin > lettersMax)
+            return position <= max - min ? min + position : -1;
+
+        int letters = lettersMax - lettersMin + 1;
+        if (position < letters)
+            return lettersMin + position;
+
+        int rest = position - letters;
+        int below = lettersMin - min;
+        if (rest < below)
+            return min + rest;
+
+        int above = lettersMax + 1 + rest - below;
+        return above <= max ? above : -1;
+    }
+}
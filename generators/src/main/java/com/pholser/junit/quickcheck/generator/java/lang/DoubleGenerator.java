@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -34,8 +35,10 @@ import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Produces values for property parameters of type {@code double} or
@@ -77,6 +80,41 @@ public class DoubleGenerator extends DecimalGenerator<Double> {
         return random.nextDouble(min, max);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The edge values are the ends of the configured range, zero, one,
+     * negative one, the least positive and greatest finite numbers and
+     * their negations, whichever are in range; and, if the range is
+     * unbounded at both ends, the infinities and {@link Double#NaN}.</p>
+     */
+    @Override public List<Double> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<Double> edges =
+            Stream.of(
+                min,
+                Math.nextDown(max),
+                0D,
+                1D,
+                -1D,
+                Double.MIN_VALUE,
+                -Double.MIN_VALUE,
+                Double.MAX_VALUE,
+                -Double.MAX_VALUE)
+                .filter(n -> n >= min && n < max)
+                .distinct()
+                .collect(toList());
+        if (min == Double.NEGATIVE_INFINITY
+            && max == Double.POSITIVE_INFINITY) {
+
+            edges.add(Double.POSITIVE_INFINITY);
+            edges.add(Double.NaN);
+        }
+        return edges;
+    }
+
     @Override protected Function<Double, BigDecimal> widen() {
         return BigDecimal::valueOf;
     }
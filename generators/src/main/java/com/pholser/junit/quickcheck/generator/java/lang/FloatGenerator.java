@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -34,8 +35,10 @@ import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@code float} or {@link Float}.
@@ -75,6 +78,41 @@ public class FloatGenerator extends DecimalGenerator<Float> {
         return random.nextFloat(min, max);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The edge values are the ends of the configured range, zero, one,
+     * negative one, the least positive and greatest finite numbers and
+     * their negations, whichever are in range; and, if the range is
+     * unbounded at both ends, the infinities and {@link Float#NaN}.</p>
+     */
+    @Override public List<Float> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        List<Float> edges =
+            Stream.of(
+                min,
+                Math.nextDown(max),
+                0F,
+                1F,
+                -1F,
+                Float.MIN_VALUE,
+                -Float.MIN_VALUE,
+                Float.MAX_VALUE,
+                -Float.MAX_VALUE)
+                .filter(n -> n >= min && n < max)
+                .distinct()
+                .collect(toList());
+        if (min == Float.NEGATIVE_INFINITY
+            && max == Float.POSITIVE_INFINITY) {
+
+            edges.add(Float.POSITIVE_INFINITY);
+            edges.add(Float.NaN);
+        }
+        return edges;
+    }
+
     @Override protected Function<Float, BigDecimal> widen() {
         return BigDecimal::valueOf;
     }
@@ -35,6 +35,7 @@ import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -76,6 +77,13 @@ public class ShortGenerator extends IntegralGenerator<Short> {
         return random.nextShort(min, max);
     }
 
+    @Override public List<Short> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return edgeCasesBetween(min, max);
+    }
+
     @Override protected Function<BigInteger, Short> narrow() {
         return BigInteger::shortValue;
     }
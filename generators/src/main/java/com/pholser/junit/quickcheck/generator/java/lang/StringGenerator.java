@@ -39,4 +39,8 @@ public class StringGenerator extends AbstractStringGenerator {
     @Override protected boolean codePointInRange(int codePoint) {
         return codePoint >= 0 && codePoint < Character.MIN_SURROGATE;
     }
+
+    @Override protected int codePointOfSize(int size) {
+        return CodePointOrder.at(size, 0, Character.MIN_SURROGATE - 1);
+    }
 }
@@ -39,6 +39,7 @@ import com.pholser.junit.quickcheck.internal.Ranges;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -97,6 +98,17 @@ public class BigIntegerGenerator extends IntegralGenerator<BigInteger> {
         return Ranges.choose(random, minToUse, maxToUse);
     }
 
+    @Override public List<BigInteger> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return edgeCasesBetween(min, max);
+    }
+
+    @Override protected Function<BigInteger, BigInteger> widen() {
+        return identity();
+    }
+
     @Override protected Function<BigInteger, BigInteger> narrow() {
         return identity();
     }
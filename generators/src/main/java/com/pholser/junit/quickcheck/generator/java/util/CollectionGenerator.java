@@ -25,16 +25,15 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Enumerations.sequences;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
 import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
@@ -42,12 +41,15 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.EdgeCases;
 import com.pholser.junit.quickcheck.internal.Lists;
+import com.pholser.junit.quickcheck.internal.Magnitudes;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -121,28 +123,80 @@ public abstract class CollectionGenerator<T extends Collection>
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Object> asList = new ArrayList<>(larger);
 
-        List<T> shrinks = new ArrayList<>(removals(asList));
-
         @SuppressWarnings("unchecked")
         Shrink<Object> generator =
             (Shrink<Object>) componentGenerators().get(0);
 
         Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, generator)
-                .stream();
+            shrinksOfOneItemLazily(random, asList, generator);
         if (distinct)
             oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
 
-        shrinks.addAll(
+        return Stream.concat(
+            removals(asList),
             oneItemShrinks
                 .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
+                .filter(this::inSizeRange));
+    }
 
-        return shrinks;
+    @Override public boolean canEnumerate() {
+        return componentGenerators().get(0).canEnumerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A collection's size is the number of its elements plus the sizes
+     * of its elements.</p>
+     */
+    @Override public Stream<T> enumerate(int size) {
+        Stream<List<Object>> items =
+            sequences(
+                size,
+                sizeRange == null ? Integer.MAX_VALUE : sizeRange.max(),
+                componentGenerators().get(0)::enumerate);
+        if (distinct || Set.class.isAssignableFrom(types().get(0)))
+            items = items.filter(Lists::isDistinct);
+
+        return items.map(this::convert).filter(this::inSizeRange).distinct();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Gives a collection of the least size, collections of one element
+     * holding each of the component's edge values, and a collection of the
+     * greatest size, all within the configured range of sizes.</p>
+     */
+    @Override public List<T> edgeCases(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        Generator<?> generator = componentGenerators().get(0);
+        return EdgeCases.sequences(
+            sizeRange == null ? 0 : sizeRange.min(),
+            sizeRange == null ? 1 : sizeRange.max(),
+            generator.edgeCases(random, status),
+            () -> {
+                Stream<?> items =
+                    Stream.generate(() -> generator.generate(random, status))
+                        .sequential();
+                return distinct ? items.distinct() : items;
+            })
+            .stream()
+            .map(this::convert)
+            .filter(this::inSizeRange)
+            .collect(toList());
     }
 
     @Override public int numberOfNeededComponents() {
@@ -156,9 +210,9 @@ public abstract class CollectionGenerator<T extends Collection>
             return ZERO;
 
         BigDecimal elementsMagnitude =
-            narrowed.stream()
-                .map(e -> componentGenerators().get(0).magnitude(e))
-                .reduce(ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                narrowed.stream()
+                    .map(e -> componentGenerators().get(0).magnitude(e)));
         return BigDecimal.valueOf(narrowed.size()).multiply(elementsMagnitude);
     }
 
@@ -178,13 +232,10 @@ public abstract class CollectionGenerator<T extends Collection>
             : status.size();
     }
 
-    private List<T> removals(List<?> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
+    private Stream<T> removals(List<?> items) {
+        return ddmin(items)
             .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
+            .filter(this::inSizeRange);
     }
 
     @SuppressWarnings("unchecked")
@@ -25,15 +25,13 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
+import static com.pholser.junit.quickcheck.internal.Reductions.ddmin;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
@@ -42,11 +40,11 @@ import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
 import com.pholser.junit.quickcheck.internal.Lists;
+import com.pholser.junit.quickcheck.internal.Magnitudes;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -127,29 +125,31 @@ public abstract class MapGenerator<T extends Map>
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Entry<?, ?>> entries = new ArrayList<>(larger.entrySet());
 
-        List<T> shrinks = new ArrayList<>(removals(entries));
-
         @SuppressWarnings("unchecked")
         Shrink<Entry<?, ?>> entryShrink = entryShrinker(
             (Shrink<Object>) componentGenerators().get(0),
             (Shrink<Object>) componentGenerators().get(1));
 
         Stream<List<Entry<?, ?>>> oneEntryShrinks =
-            shrinksOfOneItem(random, entries, entryShrink)
-                .stream();
+            shrinksOfOneItemLazily(random, entries, entryShrink);
         if (distinct)
             oneEntryShrinks = oneEntryShrinks.filter(MapGenerator::isKeyDistinct);
 
-        shrinks.addAll(
+        return Stream.concat(
+            removals(entries),
             oneEntryShrinks
                 .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
-
-        return shrinks;
+                .filter(this::inSizeRange));
     }
 
     @Override public int numberOfNeededComponents() {
@@ -163,13 +163,13 @@ public abstract class MapGenerator<T extends Map>
             return BigDecimal.ZERO;
 
         BigDecimal keysMagnitude =
-            narrowed.keySet().stream()
-                .map(e -> componentGenerators().get(0).magnitude(e))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                narrowed.keySet().stream()
+                    .map(e -> componentGenerators().get(0).magnitude(e)));
         BigDecimal valuesMagnitude =
-            narrowed.values().stream()
-                .map(e -> componentGenerators().get(1).magnitude(e))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                narrowed.values().stream()
+                    .map(e -> componentGenerators().get(1).magnitude(e)));
         return BigDecimal.valueOf(narrowed.size())
             .multiply(keysMagnitude)
             .add(valuesMagnitude);
@@ -194,13 +194,10 @@ public abstract class MapGenerator<T extends Map>
             : status.size();
     }
 
-    private List<T> removals(List<Entry<?, ?>> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
+    private Stream<T> removals(List<Entry<?, ?>> items) {
+        return ddmin(items)
             .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
+            .filter(this::inSizeRange);
     }
 
     @SuppressWarnings("unchecked")
@@ -35,6 +35,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Produces values of type {@link Optional}.
@@ -73,6 +74,23 @@ public class OptionalGenerator extends ComponentizedGenerator<Optional> {
         return shrinks;
     }
 
+    @Override public boolean canEnumerate() {
+        return componentGenerators().get(0).canEnumerate();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>An empty {@link Optional} has size zero; a present one has size
+     * one more than that of its value.</p>
+     */
+    @Override public Stream<Optional> enumerate(int size) {
+        return size == 0
+            ? Stream.of(Optional.empty())
+            : componentGenerators().get(0).enumerate(size - 1)
+                .map(Optional::of);
+    }
+
     @Override public int numberOfNeededComponents() {
         return 1;
     }
@@ -33,6 +33,7 @@ import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.java.lang.AbstractStringGenerator;
 import com.pholser.junit.quickcheck.generator.java.lang.Encoded;
 import com.pholser.junit.quickcheck.generator.java.lang.StringGenerator;
+import com.pholser.junit.quickcheck.internal.Magnitudes;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.Dictionary;
@@ -92,13 +93,13 @@ public class PropertiesGenerator extends Generator<Properties> {
             return ZERO;
 
         BigDecimal keysMagnitude =
-            narrowed.keySet().stream()
-                .map(e -> stringGenerator.magnitude(e))
-                .reduce(ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                narrowed.keySet().stream()
+                    .map(e -> stringGenerator.magnitude(e)));
         BigDecimal valuesMagnitude =
-            narrowed.values().stream()
-                .map(e -> stringGenerator.magnitude(e))
-                .reduce(ZERO, BigDecimal::add);
+            Magnitudes.sum(
+                narrowed.values().stream()
+                    .map(e -> stringGenerator.magnitude(e)));
         return BigDecimal.valueOf(narrowed.size())
             .multiply(keysMagnitude)
             .add(valuesMagnitude);
@@ -0,0 +1,173 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.pholser.junit.quickcheck.Mode.*;
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class BoundaryModePropertyParameterTypesTest {
+    @Test public void integerEdgesFirst() {
+        assertThat(testResult(Integers.class), isSuccessful());
+        assertEquals(20, Integers.values.size());
+        assertEquals(
+            asList(
+                Integer.MIN_VALUE,
+                Integer.MAX_VALUE,
+                0,
+                1,
+                -1,
+                Integer.MIN_VALUE + 1,
+                Integer.MAX_VALUE - 1),
+            Integers.values.subList(0, 7));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Integers {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 20)
+        public void shouldHold(int i) {
+            values.add(i);
+        }
+    }
+
+    @Test public void edgesOfConfiguredRange() {
+        assertThat(testResult(RangedLongs.class), isSuccessful());
+        assertEquals(asList(3L, 10L, 4L, 9L), RangedLongs.values.subList(0, 4));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RangedLongs {
+        static final List<Long> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 10)
+        public void shouldHold(@InRange(minLong = 3, maxLong = 10) long i) {
+            values.add(i);
+        }
+    }
+
+    @Test public void doublesInDefaultRange() {
+        assertThat(testResult(Doubles.class), isSuccessful());
+        assertEquals(
+            asList(0D, Math.nextDown(1D), Double.MIN_VALUE),
+            Doubles.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Doubles {
+        static final List<Double> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 3)
+        public void shouldHold(double d) {
+            values.add(d);
+        }
+    }
+
+    @Test public void nanAndInfinitiesWhenUnbounded() {
+        assertThat(testResult(UnboundedDoubles.class), isSuccessful());
+        assertThat(
+            UnboundedDoubles.values,
+            hasItems(
+                Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY,
+                Double.NaN,
+                -Double.MAX_VALUE,
+                0D));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnboundedDoubles {
+        static final List<Double> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 10)
+        public void shouldHold(
+            @InRange(min = "-Infinity", max = "Infinity") double d) {
+
+            values.add(d);
+        }
+    }
+
+    @Test public void shortestAndLongestLists() {
+        assertThat(testResult(Lists.class), isSuccessful());
+        assertEquals(emptyList(), Lists.values.get(0));
+        assertThat(
+            Lists.values.subList(0, 9),
+            hasItems(
+                singletonList(Integer.MIN_VALUE),
+                singletonList(Integer.MAX_VALUE),
+                singletonList(0)));
+        assertEquals(3, Lists.values.get(8).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Lists {
+        static final List<List<Integer>> values = new ArrayList<>();
+
+        @Property(mode = BOUNDARY, trials = 12)
+        public void shouldHold(@Size(max = 3) List<Integer> l) {
+            values.add(l);
+        }
+    }
+
+    @Test public void findsOverflowWithinFewTrials() {
+        assertThat(
+            testResult(Midpoint.class),
+            hasSingleFailureContaining("With arguments: ["));
+        assertThat(Midpoint.iterations, lessThanOrEqualTo(49));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Midpoint {
+        static int iterations;
+
+        @Property(mode = BOUNDARY, shrink = false)
+        public void shouldHold(int low, int high) {
+            ++iterations;
+            assumeTrue(low <= high);
+
+            int middle = (low + high) / 2;
+            assertThat(middle, allOf(
+                greaterThanOrEqualTo(low),
+                lessThanOrEqualTo(high)));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import com.pholser.junit.quickcheck.generator.Ctor;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.pholser.junit.quickcheck.Mode.*;
+import static java.util.Arrays.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class EnumerativeModePropertyParameterTypesTest {
+    @Test public void integersNearestZeroFirst() {
+        assertThat(testResult(Integers.class), isSuccessful());
+        assertEquals(asList(0, 1, -1, 2, -2), Integers.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Integers {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 5)
+        public void shouldHold(int i) {
+            values.add(i);
+        }
+    }
+
+    @Test public void integersInRange() {
+        assertThat(testResult(RangedLongs.class), isSuccessful());
+        assertEquals(asList(3L, 4L, 5L), RangedLongs.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RangedLongs {
+        static final List<Long> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 10)
+        public void shouldHold(@InRange(minLong = 3, maxLong = 5) long i) {
+            values.add(i);
+        }
+    }
+
+    @Test public void bytesWithoutWrappingAround() {
+        assertThat(testResult(Bytes.class), isSuccessful());
+        assertEquals(256, Bytes.values.size());
+        assertEquals(256, new HashSet<>(Bytes.values).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Bytes {
+        static final List<Byte> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 1_000)
+        public void shouldHold(byte b) {
+            values.add(b);
+        }
+    }
+
+    @Test public void charactersLettersFirst() {
+        assertThat(testResult(Characters.class), isSuccessful());
+        assertEquals(asList('a', 'b', 'c', 'X', 'Y', 'Z'), Characters.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Characters {
+        static final List<Character> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 6)
+        public void shouldHold(@InRange(minChar = 'X', maxChar = 'c') char c) {
+            values.add(c);
+        }
+    }
+
+    @Test public void stringsShortestFirst() {
+        assertThat(testResult(Strings.class), isSuccessful());
+        assertEquals(asList("", "a", "aa", "b"), Strings.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Strings {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 4)
+        public void shouldHold(String s) {
+            values.add(s);
+        }
+    }
+
+    @Test public void setsWithoutDuplicates() {
+        assertThat(testResult(Sets.class), isSuccessful());
+        assertEquals(4, Sets.values.size());
+        assertEquals(4, new HashSet<>(Sets.values).size());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Sets {
+        static final List<Set<Boolean>> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 20)
+        public void shouldHold(Set<Boolean> s) {
+            values.add(s);
+        }
+    }
+
+    @Test public void optionalsAndArrays() {
+        assertThat(testResult(OptionalsAndArrays.class), isSuccessful());
+        assertEquals(
+            asList(
+                "Optional.empty []",
+                "Optional[false] []",
+                "Optional[false] [false]",
+                "Optional.empty [false]"),
+            OptionalsAndArrays.values);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class OptionalsAndArrays {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 4)
+        public void shouldHold(Optional<Boolean> o, boolean[] b) {
+            values.add(o + " " + Arrays.toString(b));
+        }
+    }
+
+    @Test public void fairlyAcrossParameters() {
+        assertThat(testResult(Pairs.class), isSuccessful());
+        Set<List<Integer>> expected = new HashSet<>();
+        for (int i = -1; i <= 1; ++i) {
+            for (int j = -1; j <= 1; ++j)
+                expected.add(asList(i, j));
+        }
+        assertEquals(asList(0, 0), Pairs.values.get(0));
+        assertEquals(expected, new HashSet<>(Pairs.values));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Pairs {
+        static final List<List<Integer>> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 9)
+        public void shouldHold(int i, int j) {
+            values.add(asList(i, j));
+        }
+    }
+
+    @Test public void constructorArguments() {
+        assertThat(testResult(Constructed.class), isSuccessful());
+        assertEquals(
+            asList("0/false", "0/true", "1/false", "-1/false"),
+            Constructed.values);
+    }
+
+    public static class Point {
+        private final int x;
+        private final boolean flag;
+
+        public Point(int x, boolean flag) {
+            this.x = x;
+            this.flag = flag;
+        }
+
+        @Override public String toString() {
+            return x + "/" + flag;
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Constructed {
+        static final List<String> values = new ArrayList<>();
+
+        @Property(mode = ENUMERATIVE, trials = 4)
+        public void shouldHold(@From(Ctor.class) Point p) {
+            values.add(p.toString());
+        }
+    }
+
+    @Test public void stopsWhenDomainsAreExhausted() {
+        assertThat(testResult(FiniteDomains.class), isSuccessful());
+        assertEquals(16, FiniteDomains.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FiniteDomains {
+        static int iterations;
+
+        @Property(mode = ENUMERATIVE)
+        public void shouldHold(boolean b, RoundingMode m) {
+            ++iterations;
+        }
+    }
+
+    @Test public void randomValuesForTypesThatCannotBeEnumerated() {
+        assertThat(testResult(Doubles.class), isSuccessful());
+        assertEquals(5, Doubles.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Doubles {
+        static int iterations;
+
+        @Property(mode = ENUMERATIVE, trials = 5)
+        public void shouldHold(double d) {
+            ++iterations;
+        }
+    }
+
+    @Test public void findsSmallestCounterexample() {
+        assertThat(
+            testResult(SmallScopeFailure.class),
+            hasSingleFailureContaining("With arguments: [3, ab]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SmallScopeFailure {
+        @Property(mode = ENUMERATIVE, trials = 1_000, shrink = false)
+        public void shouldHold(int i, String s) {
+            assertFalse(i == 3 && s.equals("ab"));
+        }
+    }
+}
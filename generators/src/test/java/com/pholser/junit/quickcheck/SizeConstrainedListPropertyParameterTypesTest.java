@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck;
 
 import java.util.List;
 
+import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.Size;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import org.junit.Test;
@@ -76,6 +77,33 @@ public class SizeConstrainedListPropertyParameterTypesTest {
         }
     }
 
+    @Test public void shrinkingLargeListsInFewSteps() {
+        assertThat(
+            testResult(ShrinkingLargeLists.class),
+            hasSingleFailureContaining("With arguments: [[42]]"));
+        assertThat(ShrinkingLargeLists.largest, greaterThan(5_000));
+        assertThat(ShrinkingLargeLists.shrinkAttempts, lessThan(100));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingLargeLists {
+        static int largest;
+        static int shrinkAttempts;
+
+        @Property(trials = 1) public void shouldHold(
+            @Size(min = 0, max = 10_000)
+            @When(seed = 271828L)
+            List<@InRange(minInt = 0, maxInt = 99) Integer> items) {
+
+            if (largest == 0)
+                largest = items.size();
+            else
+                ++shrinkAttempts;
+
+            assertThat(items, not(hasItem(42)));
+        }
+    }
+
     @Test public void outOfWhackSizeRange() {
         assertThat(
             testResult(OutOfWhackSizeRange.class),
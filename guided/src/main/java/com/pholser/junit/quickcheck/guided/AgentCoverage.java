@@ -0,0 +1,51 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import com.pholser.junit.quickcheck.Coverage;
+import java.util.BitSet;
+
+/**
+ * <p>Coverage collected by the probes that {@link CoverageAgent} inserts
+ * into the code under test. Each probe marks the start of a basic block, so
+ * this reports block coverage, which distinguishes the branches taken at
+ * each conditional.</p>
+ */
+public class AgentCoverage implements Coverage {
+    @Override public void reset() {
+        Probes.clear();
+    }
+
+    @Override public BitSet covered() {
+        int capacity = Probes.capacity();
+        BitSet covered = new BitSet(capacity);
+        for (int i = 0; i < capacity; ++i) {
+            if (Probes.wasHit(i))
+                covered.set(i);
+        }
+        return covered;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import java.lang.instrument.Instrumentation;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>Java agent that instruments the code under test to report the
+ * {@linkplain AgentCoverage coverage} that properties verified in
+ * {@link com.pholser.junit.quickcheck.Mode#GUIDED} mode steer by.</p>
+ *
+ * <p>Attach it with
+ * {@code -javaagent:junit-quickcheck-guided.jar=com.example,org.example},
+ * naming the packages whose classes to instrument. With no packages named,
+ * all classes are instrumented except those of the JDK, of test frameworks,
+ * and of junit-quickcheck itself.</p>
+ */
+public final class CoverageAgent {
+    private CoverageAgent() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Installs the instrumenting transformer.
+     *
+     * @param arguments comma-separated names of packages to instrument
+     * @param instrumentation instrumentation services
+     */
+    public static void premain(
+        String arguments,
+        Instrumentation instrumentation) {
+
+        instrumentation.addTransformer(
+            new CoverageTransformer(packages(arguments)));
+    }
+
+    static List<String> packages(String arguments) {
+        return arguments == null || arguments.trim().isEmpty()
+            ? Arrays.asList()
+            : Arrays.asList(arguments.trim().split("\\s*,\\s*"));
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import static java.util.stream.Collectors.toList;
+import static org.objectweb.asm.Opcodes.ASM9;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.JSR;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Inserts a call to {@link Probes#hit(int)} at the start of each basic
+ * block of the methods of the classes it instruments: on entry to a method,
+ * at each label a jump or handler may land on, and after each conditional
+ * jump.</p>
+ */
+public class CoverageTransformer implements ClassFileTransformer {
+    private static final List<String> EXCLUDED =
+        Arrays.asList(
+            "java/",
+            "javax/",
+            "jdk/",
+            "sun/",
+            "com/sun/",
+            "junit/",
+            "org/junit/",
+            "org/hamcrest/",
+            "com/pholser/junit/quickcheck/",
+            "org/javaruntype/",
+            "ognl/",
+            "org/objectweb/asm/",
+            "net/bytebuddy/",
+            "org/slf4j/",
+            "ch/qos/logback/",
+            "org/apache/maven/");
+    private static final String PROBES = Type.getInternalName(Probes.class);
+
+    private final List<String> included;
+    private final AtomicInteger probes = new AtomicInteger();
+
+    /**
+     * @param packages names of the packages whose classes to instrument;
+     * if empty, instrument every class outside the JDK, test frameworks, and
+     * junit-quickcheck
+     */
+    public CoverageTransformer(List<String> packages) {
+        this.included =
+            packages.stream()
+                .map(p -> p.replace('.', '/') + '/')
+                .collect(toList());
+    }
+
+    @Override public byte[] transform(
+        ClassLoader loader,
+        String className,
+        Class<?> redefined,
+        ProtectionDomain domain,
+        byte[] classfile) {
+
+        if (className == null || !instruments(className))
+            return null;
+
+        try {
+            ClassReader reader = new ClassReader(classfile);
+            ClassWriter writer =
+                new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+            reader.accept(new Instrumenter(writer), 0);
+            return writer.toByteArray();
+        } catch (RuntimeException ex) {
+            // The class loads as it is, without probes. The logger is looked
+            // up only here, so attaching the agent does not start up logging.
+            LoggerFactory.getLogger(CoverageTransformer.class)
+                .warn(
+                    "Could not instrument {}; its coverage is not recorded",
+                    className.replace('/', '.'),
+                    ex);
+            return null;
+        }
+    }
+
+    boolean instruments(String className) {
+        if (!included.isEmpty())
+            return included.stream().anyMatch(className::startsWith);
+
+        return EXCLUDED.stream().noneMatch(className::startsWith);
+    }
+
+    private final class Instrumenter extends ClassVisitor {
+        Instrumenter(ClassVisitor delegate) {
+            super(ASM9, delegate);
+        }
+
+        @Override public MethodVisitor visitMethod(
+            int access,
+            String name,
+            String descriptor,
+            String signature,
+            String[] exceptions) {
+
+            return new Blocks(
+                super.visitMethod(
+                    access,
+                    name,
+                    descriptor,
+                    signature,
+                    exceptions));
+        }
+    }
+
+    private final class Blocks extends MethodVisitor {
+        private boolean pending;
+
+        Blocks(MethodVisitor delegate) {
+            super(ASM9, delegate);
+        }
+
+        @Override public void visitCode() {
+            super.visitCode();
+            pending = true;
+        }
+
+        @Override public void visitLabel(Label label) {
+            super.visitLabel(label);
+            pending = true;
+        }
+
+        @Override public void visitJumpInsn(int opcode, Label label) {
+            probe();
+            super.visitJumpInsn(opcode, label);
+            pending = opcode != GOTO && opcode != JSR;
+        }
+
+        @Override public void visitInsn(int opcode) {
+            probe();
+            super.visitInsn(opcode);
+        }
+
+        @Override public void visitIntInsn(int opcode, int operand) {
+            probe();
+            super.visitIntInsn(opcode, operand);
+        }
+
+        @Override public void visitVarInsn(int opcode, int index) {
+            probe();
+            super.visitVarInsn(opcode, index);
+        }
+
+        @Override public void visitTypeInsn(int opcode, String type) {
+            probe();
+            super.visitTypeInsn(opcode, type);
+        }
+
+        @Override public void visitFieldInsn(
+            int opcode,
+            String owner,
+            String name,
+            String descriptor) {
+
+            probe();
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override public void visitMethodInsn(
+            int opcode,
+            String owner,
+            String name,
+            String descriptor,
+            boolean isInterface) {
+
+            probe();
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override public void visitInvokeDynamicInsn(
+            String name,
+            String descriptor,
+            Handle bootstrap,
+            Object... arguments) {
+
+            probe();
+            super.visitInvokeDynamicInsn(
+                name,
+                descriptor,
+                bootstrap,
+                arguments);
+        }
+
+        @Override public void visitLdcInsn(Object value) {
+            probe();
+            super.visitLdcInsn(value);
+        }
+
+        @Override public void visitIincInsn(int index, int increment) {
+            probe();
+            super.visitIincInsn(index, increment);
+        }
+
+        @Override public void visitTableSwitchInsn(
+            int min,
+            int max,
+            Label fallback,
+            Label... labels) {
+
+            probe();
+            super.visitTableSwitchInsn(min, max, fallback, labels);
+        }
+
+        @Override public void visitLookupSwitchInsn(
+            Label fallback,
+            int[] keys,
+            Label[] labels) {
+
+            probe();
+            super.visitLookupSwitchInsn(fallback, keys, labels);
+        }
+
+        @Override public void visitMultiANewArrayInsn(
+            String descriptor,
+            int dimensions) {
+
+            probe();
+            super.visitMultiANewArrayInsn(descriptor, dimensions);
+        }
+
+        private void probe() {
+            if (!pending)
+                return;
+
+            pending = false;
+            int id = probes.getAndIncrement();
+            Probes.reserve(id);
+            super.visitLdcInsn(id);
+            super.visitMethodInsn(INVOKESTATIC, PROBES, "hit", "(I)V", false);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import java.util.Arrays;
+
+/**
+ * <p>Records which probes inserted into instrumented code have been hit.
+ * Instrumented classes call {@link #hit(int)}; it is not meant to be called
+ * otherwise.</p>
+ *
+ * <p>The table of hits grows as classes are instrumented, so that every
+ * probe keeps a slot of its own.</p>
+ */
+public final class Probes {
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private static volatile byte[] hits = new byte[INITIAL_CAPACITY];
+
+    private Probes() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Records that the probe with the given identifier was hit.
+     *
+     * @param id identifier of a probe
+     */
+    public static void hit(int id) {
+        hits[id] = 1;
+    }
+
+    // Called as a probe is inserted, before the class holding it can run.
+    static void reserve(int id) {
+        if (id >= hits.length)
+            grow(id);
+    }
+
+    static int capacity() {
+        return hits.length;
+    }
+
+    static void clear() {
+        Arrays.fill(hits, (byte) 0);
+    }
+
+    static boolean wasHit(int id) {
+        return hits[id] != 0;
+    }
+
+    private static synchronized void grow(int id) {
+        byte[] current = hits;
+        if (id < current.length)
+            return;
+
+        hits = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+    }
+}
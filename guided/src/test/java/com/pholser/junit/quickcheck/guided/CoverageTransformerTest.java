@@ -0,0 +1,153 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.guided.sample.Header;
+import java.util.BitSet;
+import java.util.function.Predicate;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoverageTransformerTest {
+    private AgentCoverage coverage;
+    private Predicate<int[]> header;
+
+    @SuppressWarnings("unchecked")
+    @Before public void beforeEach() {
+        coverage = new AgentCoverage();
+        header =
+            (Predicate<int[]>) InstrumentingClassLoader.instanceOf(
+                Header.class);
+    }
+
+    @Test public void instrumentedCodeBehavesAsBefore() {
+        assertTrue(header.test(new int[] { 'Q', 'C', 4 }));
+        assertFalse(header.test(new int[] { 'Q', 'C', 3 }));
+    }
+
+    @Test public void reportsDifferentCoverageForDifferentBranches() {
+        BitSet missed = coveredBy(new int[] { 'X', 'C', 3 });
+        BitSet first = coveredBy(new int[] { 'Q', 'X', 3 });
+        BitSet second = coveredBy(new int[] { 'Q', 'C', 4 });
+
+        assertFalse(missed.isEmpty());
+        assertNotEquals(missed, first);
+        assertNotEquals(first, second);
+        assertTrue(second.cardinality() > missed.cardinality());
+    }
+
+    @Test public void reportsSameCoverageForSameBranches() {
+        assertEquals(
+            coveredBy(new int[] { 'A', 'B', 'C' }),
+            coveredBy(new int[] { 'D', 'E', 'F' }));
+    }
+
+    @Test public void resetForgetsCoverage() {
+        header.test(new int[] { 'Q', 'C', 3 });
+
+        coverage.reset();
+
+        assertTrue(coverage.covered().isEmpty());
+    }
+
+    @Test public void leavesOutsideClassesAlone() {
+        CoverageTransformer transformer =
+            new CoverageTransformer(asList("com.example"));
+
+        assertNull(
+            transformer.transform(
+                null,
+                "org/example/Foo",
+                null,
+                null,
+                new byte[0]));
+    }
+
+    @Test public void leavesClassesItCannotReadAlone() {
+        CoverageTransformer transformer =
+            new CoverageTransformer(asList("com.example"));
+
+        assertNull(
+            transformer.transform(
+                null,
+                "com/example/Foo",
+                null,
+                null,
+                new byte[] { 1, 2, 3 }));
+    }
+
+    @Test public void keepsProbesBeyondInitialCapacityApart() {
+        int id = Probes.capacity() + 1;
+        Probes.reserve(id);
+
+        coverage.reset();
+        Probes.hit(id);
+
+        assertEquals(1, coverage.covered().cardinality());
+        assertTrue(coverage.covered().get(id));
+    }
+
+    @Test public void instrumentsNamedPackagesOnly() {
+        CoverageTransformer transformer =
+            new CoverageTransformer(asList("com.example", "org.example"));
+
+        assertTrue(transformer.instruments("com/example/Foo"));
+        assertTrue(transformer.instruments("org/example/bar/Baz"));
+        assertFalse(transformer.instruments("com/examples/Foo"));
+    }
+
+    @Test public void withNoPackagesNamedInstrumentsAllButLibraries() {
+        CoverageTransformer transformer = new CoverageTransformer(emptyList());
+
+        assertTrue(transformer.instruments("com/example/Foo"));
+        assertFalse(transformer.instruments("java/util/ArrayList"));
+        assertFalse(transformer.instruments("org/junit/Assert"));
+        assertFalse(
+            transformer.instruments("com/pholser/junit/quickcheck/Property"));
+    }
+
+    @Test public void parsesAgentArguments() {
+        assertEquals(
+            asList("com.example", "org.example"),
+            CoverageAgent.packages(" com.example , org.example"));
+        assertEquals(emptyList(), CoverageAgent.packages(null));
+        assertEquals(emptyList(), CoverageAgent.packages(""));
+    }
+
+    private BitSet coveredBy(int[] bytes) {
+        coverage.reset();
+        header.test(bytes);
+        return coverage.covered();
+    }
+}
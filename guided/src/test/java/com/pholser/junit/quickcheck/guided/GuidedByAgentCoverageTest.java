@@ -0,0 +1,104 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import static com.pholser.junit.quickcheck.Mode.GUIDED;
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.When;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.guided.sample.Header;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class GuidedByAgentCoverageTest {
+    @SuppressWarnings("unchecked")
+    private static final Predicate<int[]> HEADER =
+        (Predicate<int[]>) InstrumentingClassLoader.instanceOf(Header.class);
+
+    @Test public void findsMagicHeader() {
+        assertThat(
+            testResult(Guided.class),
+            hasSingleFailureContaining("Accepted [81, 67, 3]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Guided {
+        @Property(mode = GUIDED, trials = 50_000)
+        public void shouldHold(
+            @When(seed = 2718L) @From(Bytes.class) int[] bytes) {
+
+            assertTrue(
+                "Accepted " + Arrays.toString(bytes),
+                HEADER.test(bytes));
+        }
+    }
+
+    @Test public void samplingMissesMagicHeader() {
+        assertThat(testResult(Sampled.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Sampled {
+        @Property(mode = SAMPLING, trials = 50_000)
+        public void shouldHold(
+            @When(seed = 2718L) @From(Bytes.class) int[] bytes) {
+
+            assertTrue(
+                "Accepted " + Arrays.toString(bytes),
+                HEADER.test(bytes));
+        }
+    }
+
+    public static class Bytes extends Generator<int[]> {
+        public Bytes() {
+            super(int[].class);
+        }
+
+        @Override public int[] generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new int[] {
+                random.nextInt(0, 127),
+                random.nextInt(0, 127),
+                random.nextInt(0, 127)
+            };
+        }
+    }
+}
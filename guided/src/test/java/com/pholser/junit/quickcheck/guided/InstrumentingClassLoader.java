@@ -0,0 +1,99 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.guided;
+
+import static java.util.Collections.singletonList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+final class InstrumentingClassLoader extends ClassLoader {
+    private static final String SAMPLES =
+        "com.pholser.junit.quickcheck.guided.sample";
+
+    private final CoverageTransformer transformer =
+        new CoverageTransformer(singletonList(SAMPLES));
+
+    InstrumentingClassLoader() {
+        super(InstrumentingClassLoader.class.getClassLoader());
+    }
+
+    static Object instanceOf(Class<?> target) {
+        try {
+            return new InstrumentingClassLoader()
+                .loadClass(target.getName())
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override protected Class<?> loadClass(String name, boolean resolve)
+        throws ClassNotFoundException {
+
+        if (!name.startsWith(SAMPLES + '.'))
+            return super.loadClass(name, resolve);
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                String internal = name.replace('.', '/');
+                byte[] original = bytesOf(internal + ".class");
+                byte[] instrumented =
+                    transformer.transform(
+                        this,
+                        internal,
+                        null,
+                        null,
+                        original);
+                loaded =
+                    defineClass(
+                        name,
+                        instrumented,
+                        0,
+                        instrumented.length);
+            }
+            if (resolve)
+                resolveClass(loaded);
+            return loaded;
+        }
+    }
+
+    private byte[] bytesOf(String resource) {
+        try (InputStream in = getParent().getResourceAsStream(resource)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = in.read(buffer)) != -1; )
+                out.write(buffer, 0, n);
+            return out.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.virtual;
+
+import com.pholser.junit.quickcheck.TrialExecutor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>Trial executor that runs each worker of a property on its own
+ * virtual thread.</p>
+ *
+ * <p>Name this class as the {@linkplain
+ * com.pholser.junit.quickcheck.Property#executor() executor} of a property
+ * whose trials spend most of their time blocked, for example on network or
+ * file I/O. The property's {@linkplain
+ * com.pholser.junit.quickcheck.Property#parallelism() parallelism} caps how
+ * many trials are in flight at once; it can be set in the thousands without
+ * sizing a pool of platform threads to match.</p>
+ *
+ * <pre>
+ *     &#064;Property(
+ *         trials = 10_000,
+ *         parallelism = 1_000,
+ *         executor = VirtualThreadTrialExecutor.class)
+ *     public void roundTrips(String key) throws Exception {
+ *         // ...
+ *     }
+ * </pre>
+ *
+ * <p>Failure reporting and shrinking are the same as for any other
+ * property: the first failing set of parameters stops all workers, and is
+ * shrunk on the thread that runs the property.</p>
+ */
+public class VirtualThreadTrialExecutor implements TrialExecutor {
+    @Override public ExecutorService start(int parallelism) {
+        return Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual()
+                .name("junit-quickcheck-trial-", 0)
+                .factory());
+    }
+}
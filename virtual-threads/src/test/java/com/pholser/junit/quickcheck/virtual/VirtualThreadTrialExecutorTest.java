@@ -0,0 +1,92 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.virtual;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class VirtualThreadTrialExecutorTest {
+    @Test public void verifiesTrialsOnVirtualThreads() {
+        assertThat(testResult(Blocking.class), isSuccessful());
+        assertEquals(2_000, Blocking.iterations.get());
+        assertTrue(Blocking.threads.stream().allMatch(Thread::isVirtual));
+        assertThat(Blocking.threads.size(), greaterThan(1));
+        Blocking.iterations.set(0);
+        Blocking.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Blocking {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(
+            trials = 2_000,
+            parallelism = 1_000,
+            executor = VirtualThreadTrialExecutor.class)
+        public void shouldHold(int i) throws Exception {
+            threads.add(Thread.currentThread());
+            Thread.sleep(10);
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void shrinksFirstFailure() {
+        assertThat(
+            testResult(Failing.class),
+            hasSingleFailureContaining("With arguments: [100]"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class Failing {
+        @Property(
+            trials = 1_000,
+            parallelism = 100,
+            executor = VirtualThreadTrialExecutor.class,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(int i) {
+            assumeThat(i, greaterThan(99));
+
+            assertThat(i, lessThan(100));
+        }
+    }
+}